@@ -4,12 +4,14 @@ import com.gestion.eventos.api.domain.Category;
 import com.gestion.eventos.api.dto.CategoryDto;
 import com.gestion.eventos.api.mapper.CategoryMapper;
 import com.gestion.eventos.api.service.ICategoryService;
+import com.gestion.eventos.api.service.ResourceTagService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,10 +23,15 @@ public class CategoryController {
 
     private final ICategoryService categoryService;
     private final CategoryMapper categoryMapper;
+    private final ResourceTagService resourceTagService;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<List<CategoryDto>> getAllCategories() {
+    public ResponseEntity<List<CategoryDto>> getAllCategories(WebRequest request) {
+
+        if (request.checkNotModified(resourceTagService.categoryListTag())) {
+            return null;
+        }
 
         List<Category> categories = categoryService.findAll();
 
@@ -37,7 +44,12 @@ public class CategoryController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Long id) {
+    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Long id, WebRequest request) {
+
+        // Si el cliente ya tiene esta versión se responde 304 sin cargar ni serializar la categoría
+        if (request.checkNotModified(resourceTagService.categoryTag(id))) {
+            return null;
+        }
 
         Category category = categoryService.findById(id);
         return ResponseEntity.ok(categoryMapper.toDto(category));
@@ -1,28 +1,46 @@
 package com.gestion.eventos.api.controller;
 
 import com.gestion.eventos.api.domain.Event;
+import com.gestion.eventos.api.dto.CursorPageDto;
 import com.gestion.eventos.api.dto.EventRequestDTO;
 import com.gestion.eventos.api.dto.EventResponseDTO;
+import com.gestion.eventos.api.dto.EventSummaryDto;
 import com.gestion.eventos.api.mapper.EventMapper;
+import com.gestion.eventos.api.service.EventCountMode;
+import com.gestion.eventos.api.service.EventCounterReconciler;
+import com.gestion.eventos.api.service.EventView;
+import com.gestion.eventos.api.service.IAttendanceService;
+import com.gestion.eventos.api.service.IEventExportService;
 import com.gestion.eventos.api.service.IEventService;
+import com.gestion.eventos.api.service.ResourceTagService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/events")
@@ -32,7 +50,15 @@ public class EventController {
 
     private final IEventService eventService;
     private static final Logger logger = LoggerFactory.getLogger(EventController.class);
+    private static final int MAX_BULK_EVENTS = 10_000;
+    private static final String EXPAND_FIELDS_DOC = "'fields' (id,name,date,location,capacity,attendeeCount,speakerCount) " +
+            "limita las columnas y 'expand' (speakers,category) las asociaciones que se consultan y devuelven; sin ninguno " +
+            "de los dos se devuelve el evento completo con categoría y oradores.";
     private final EventMapper eventMapper;
+    private final IEventExportService eventExportService;
+    private final ResourceTagService resourceTagService;
+    private final IAttendanceService attendanceService;
+    private final EventCounterReconciler eventCounterReconciler;
 
     @GetMapping("/problematic")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
@@ -43,7 +69,7 @@ public class EventController {
             @ApiResponse(responseCode = "403", description = "Acceso denegado")
     })
     public ResponseEntity<List<Event>> getAllEventsProblematic(){
-        logger.info("Recibida solicitud GET /problematic para todos los eventos.");
+        logger.debug("Recibida solicitud GET /problematic para todos los eventos.");
         List<Event> events = eventService.getAllEventsAndTheirDetailsProblematic();
         logger.debug("Devolviendo {} eventos desde /problematic.", events.size());
         return ResponseEntity.ok(events);
@@ -58,7 +84,7 @@ public class EventController {
             @ApiResponse(responseCode = "403", description = "Acceso denegado")
     })
     public ResponseEntity<List<Event>> getAllEventsOptimizedWithJoinFetch(){
-        logger.info("Recibida solicitud GET /optimized-join-fetch.");
+        logger.debug("Recibida solicitud GET /optimized-join-fetch.");
         List<Event> events = eventService.getAllEventsAndTheirDetailsOptimizedWithJoinFetch();
         logger.debug("Devolviendo {} eventos desde /optimized-join-fetch.", events.size());
         return ResponseEntity.ok(events);
@@ -73,7 +99,7 @@ public class EventController {
             @ApiResponse(responseCode = "403", description = "Acceso denegado")
     })
     public ResponseEntity<List<Event>> getAllEventsWithAllDetails() {
-        logger.info("Recibida solicitud GET /optimized/all-details.");
+        logger.debug("Recibida solicitud GET /optimized/all-details.");
         List<Event> events = eventService.findAllEventsWithAllDetailsOptimized();
         logger.debug("Devolviendo {} eventos desde /optimized/all-details.", events.size());
         return ResponseEntity.ok(events);
@@ -82,21 +108,108 @@ public class EventController {
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     @Operation(summary = "Obtener todos los eventos paginados y filtrados",
-            description = "Devuelve una página de eventos. Se puede filtrar por nombre y se admite paginación.")
+            description = "Devuelve una página de eventos. Se puede filtrar por nombre y se admite paginación. " +
+                    "El parámetro 'count' elige cómo se calcula el total: exact, cached o approximate. " +
+                    "Con sort=attendeeCount,desc se ordena por popularidad. " + EXPAND_FIELDS_DOC)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Página de eventos obtenida exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El listado no ha cambiado (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Modo de conteo, campo o expansión inválidos"),
             @ApiResponse(responseCode = "403", description = "Acceso denegado")
     })
     public ResponseEntity<Page<EventResponseDTO>> getAllEvents(
             @RequestParam(required = false) String name,
-            @PageableDefault(page = 0, size = 10, sort = "name") Pageable pageable
+            @RequestParam(required = false) String count,
+            @RequestParam(required = false) String expand,
+            @RequestParam(required = false) String fields,
+            @PageableDefault(page = 0, size = 10, sort = "name") Pageable pageable,
+            WebRequest request
     ){
-        logger.info("Recibida solicitud GET /events con nombre '{}' y paginación {}.", name, pageable);
-        Page<EventResponseDTO> events = eventService.findAll(name, pageable);
+        logger.debug("Recibida solicitud GET /events con nombre '{}' y paginación {}.", name, pageable);
+        EventView view = EventView.from(expand, fields);
+        if (request.checkNotModified(resourceTagService.eventListTag())) {
+            logger.debug("Listado de eventos sin cambios, respondiendo 304.");
+            return null;
+        }
+        Page<EventResponseDTO> events = eventService.findAll(name, pageable, EventCountMode.from(count), view);
         logger.debug("Devolviendo {} eventos paginados.", events.getTotalElements());
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping("/summary")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Operation(summary = "Obtener un resumen paginado de eventos",
+            description = "Listado ligero con solo id, nombre, fecha y ubicación. Admite el mismo filtro por nombre, " +
+                    "paginación y modo de conteo que el listado completo.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de resúmenes obtenida exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El listado no ha cambiado (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Modo de conteo inválido"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado")
+    })
+    public ResponseEntity<Page<EventSummaryDto>> getAllEventSummaries(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String count,
+            @PageableDefault(page = 0, size = 10, sort = "name") Pageable pageable,
+            WebRequest request
+    ){
+        logger.debug("Recibida solicitud GET /events/summary con nombre '{}' y paginación {}.", name, pageable);
+        if (request.checkNotModified(resourceTagService.eventListTag())) {
+            return null;
+        }
+        Page<EventSummaryDto> summaries = eventService.findAllSummaries(name, pageable, EventCountMode.from(count));
+        logger.debug("Devolviendo {} resúmenes de eventos.", summaries.getNumberOfElements());
+        return ResponseEntity.ok(summaries);
+    }
+
+    @GetMapping(params = "pagination=keyset")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Operation(summary = "Obtener eventos con paginación por cursor",
+            description = "Paginación keyset para scroll infinito: no calcula el total y devuelve un cursor 'nextCursor' " +
+                    "que se envía como 'after' para obtener la siguiente página. Orden por 'name' o 'date'. " + EXPAND_FIELDS_DOC)
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de eventos obtenida exitosamente"),
+            @ApiResponse(responseCode = "304", description = "El listado no ha cambiado (If-None-Match)"),
+            @ApiResponse(responseCode = "400", description = "Cursor, orden, campo o expansión inválidos"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado")
+    })
+    public ResponseEntity<CursorPageDto<EventResponseDTO>> getAllEventsByCursor(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String expand,
+            @RequestParam(required = false) String fields,
+            WebRequest request
+    ){
+        logger.debug("Recibida solicitud GET /events por cursor con nombre '{}' y orden '{}'.", name, sortBy);
+        EventView view = EventView.from(expand, fields);
+        if (request.checkNotModified(resourceTagService.eventListTag())) {
+            return null;
+        }
+        CursorPageDto<EventResponseDTO> events = eventService.findAllByCursor(name, after, sortBy, size, view);
+        logger.debug("Devolviendo {} eventos por cursor.", events.getSize());
+        return ResponseEntity.ok(events);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Operation(summary = "Exportar todos los eventos en NDJSON",
+            description = "Devuelve un evento por línea (con nombre de categoría e ids de oradores) escribiendo en streaming, " +
+                    "con memoria constante sin importar el tamaño de la tabla.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportación generada exitosamente"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado")
+    })
+    public void exportEvents(HttpServletResponse response) throws IOException {
+        logger.debug("Recibida solicitud GET /events/export.");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"events.ndjson\"");
+        long exported = eventExportService.exportAsNdjson(response.getOutputStream());
+        logger.debug("Exportados {} eventos en NDJSON.", exported);
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN')")
     @Operation(summary = "Crear un nuevo evento",
@@ -115,21 +228,53 @@ public class EventController {
         return new ResponseEntity<>(responseDto, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @Operation(summary = "Crear eventos de forma masiva",
+            description = "Valida e inserta una lista de eventos en una sola transacción usando lotes JDBC. " +
+                    "Devuelve los IDs creados en el mismo orden de la solicitud.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Eventos creados exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Solicitud inválida"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado"),
+            @ApiResponse(responseCode = "404", description = "Categoría u oradores no encontrados"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    public ResponseEntity<List<Long>> createEventsInBulk(
+            @RequestBody @NotEmpty @Size(max = MAX_BULK_EVENTS) List<@Valid EventRequestDTO> requestDtos){
+        logger.info("Recibida solicitud POST /events/bulk con {} eventos.", requestDtos.size());
+        List<Long> ids = eventService.saveAll(requestDtos);
+        logger.debug("Alta masiva completada con {} eventos.", ids.size());
+        return new ResponseEntity<>(ids, HttpStatus.CREATED);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    @Operation(summary = "Obtener un evento por su ID", description = "Devuelve los detalles de un evento específico por su ID.")
+    @Operation(summary = "Obtener un evento por su ID",
+            description = "Devuelve los detalles de un evento específico por su ID. " + EXPAND_FIELDS_DOC)
     @ApiResponses(
             value = {
                     @ApiResponse(responseCode = "200", description = "Evento encontrado exitosamente"),
+                    @ApiResponse(responseCode = "304", description = "El evento no ha cambiado (If-None-Match)"),
+                    @ApiResponse(responseCode = "400", description = "Campo o expansión inválidos"),
                     @ApiResponse(responseCode = "404", description = "Evento no encontrado"),
                     @ApiResponse(responseCode = "403", description = "Acceso denegado")
             }
     )
-    public ResponseEntity<EventResponseDTO> getEventById(@PathVariable Long id){
-        logger.info("Recibida solicitud GET /events/{} para buscar evento.", id);
-        Event event = eventService.findById(id); // Si no lo encuentra, IEventService lanzará ResourceNotFoundException
-        EventResponseDTO responseDto = eventMapper.toResponseDto(event);
-        logger.debug("Evento con ID {} encontrado y mapeado.", id);
+    public ResponseEntity<EventResponseDTO> getEventById(@PathVariable Long id,
+                                                         @RequestParam(required = false) String expand,
+                                                         @RequestParam(required = false) String fields,
+                                                         WebRequest request){
+        logger.debug("Recibida solicitud GET /events/{} para buscar evento.", id);
+        EventView view = EventView.from(expand, fields);
+        // Solo se consulta la versión: si el cliente ya la tiene no se carga, mapea ni serializa el evento
+        if (request.checkNotModified(resourceTagService.eventTag(id))) {
+            logger.debug("Evento con ID {} sin cambios, respondiendo 304.", id);
+            return null;
+        }
+        // La respuesta completa sale de la caché de DTOs; si no lo encuentra, IEventService lanzará ResourceNotFoundException
+        EventResponseDTO responseDto = eventService.findResponseById(id, view);
+        logger.debug("Evento con ID {} encontrado.", id);
         return ResponseEntity.ok(responseDto);
     }
 
@@ -170,4 +315,49 @@ public class EventController {
         return ResponseEntity.noContent().build();
     }
 
-}
\ No newline at end of file
+    @PostMapping("/{id}/attendees")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Operation(summary = "Inscribirse en un evento",
+            description = "Inscribe al usuario autenticado respetando el aforo del evento. Repetir la inscripción no tiene efecto.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Usuario inscrito"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado"),
+            @ApiResponse(responseCode = "404", description = "Evento no encontrado"),
+            @ApiResponse(responseCode = "409", description = "El evento ha alcanzado su aforo máximo")
+    })
+    public ResponseEntity<Void> registerAttendance(@PathVariable Long id, Principal principal){
+        logger.info("Recibida solicitud POST /events/{}/attendees de {}.", id, principal.getName());
+        attendanceService.register(id, principal.getName());
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}/attendees")
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @Operation(summary = "Cancelar la inscripción en un evento",
+            description = "Da de baja al usuario autenticado y libera su plaza. Si no estaba inscrito no tiene efecto.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Inscripción cancelada"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado"),
+            @ApiResponse(responseCode = "404", description = "Evento no encontrado")
+    })
+    public ResponseEntity<Void> unregisterAttendance(@PathVariable Long id, Principal principal){
+        logger.info("Recibida solicitud DELETE /events/{}/attendees de {}.", id, principal.getName());
+        attendanceService.unregister(id, principal.getName());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/counters/reconcile")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @Operation(summary = "Conciliar los contadores de asistentes y oradores",
+            description = "Recalcula attendeeCount y speakerCount de los eventos cuyo valor no coincide con las tablas de unión.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Conciliación completada"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado")
+    })
+    public ResponseEntity<Map<String, Integer>> reconcileCounters(){
+        logger.info("Recibida solicitud POST /events/counters/reconcile.");
+        int reconciled = eventCounterReconciler.reconcile();
+        return ResponseEntity.ok(Map.of("reconciled", reconciled));
+    }
+
+}
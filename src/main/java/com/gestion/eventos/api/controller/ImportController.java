@@ -0,0 +1,55 @@
+package com.gestion.eventos.api.controller;
+
+import com.gestion.eventos.api.dto.ImportJobStatusDto;
+import com.gestion.eventos.api.service.IImportService;
+import com.gestion.eventos.api.service.ImportType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/imports")
+@Tag(name = "Importaciones", description = "Importación CSV de oradores y eventos en segundo plano")
+public class ImportController {
+
+    private final IImportService importService;
+
+    @PostMapping(value = "/speakers", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @Operation(summary = "Importar oradores desde CSV",
+            description = "Columnas: name,email,bio. Responde 202 con el id del trabajo; el progreso se consulta en /api/v1/imports/{jobId}.")
+    public ResponseEntity<ImportJobStatusDto> importSpeakers(@RequestParam("file") MultipartFile file) {
+        return accepted(importService.startImport(ImportType.SPEAKERS, file));
+    }
+
+    @PostMapping(value = "/events", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @Operation(summary = "Importar eventos desde CSV",
+            description = "Columnas: name,date (yyyy-MM-dd),location,category (nombre),speakerEmails (separados por ';'). " +
+                    "Responde 202 con el id del trabajo; el progreso se consulta en /api/v1/imports/{jobId}.")
+    public ResponseEntity<ImportJobStatusDto> importEvents(@RequestParam("file") MultipartFile file) {
+        return accepted(importService.startImport(ImportType.EVENTS, file));
+    }
+
+    @GetMapping("/{jobId}")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @Operation(summary = "Consultar el progreso de una importación",
+            description = "Filas procesadas, importadas y rechazadas, velocidad (filas/s) y los primeros errores.")
+    public ResponseEntity<ImportJobStatusDto> getImportStatus(@PathVariable String jobId) {
+        return ResponseEntity.ok(importService.getStatus(jobId));
+    }
+
+    private ResponseEntity<ImportJobStatusDto> accepted(ImportJobStatusDto job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/imports/" + job.getJobId()))
+                .body(job);
+    }
+}
@@ -5,12 +5,14 @@ import com.gestion.eventos.api.dto.SpeakerRequestDto;
 import com.gestion.eventos.api.dto.SpeakerResponseDto;
 import com.gestion.eventos.api.mapper.SpeakerMapper;
 import com.gestion.eventos.api.service.ISpeakerService;
+import com.gestion.eventos.api.service.ResourceTagService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,6 +23,7 @@ public class SpeakerController {
 
     private final ISpeakerService speakerService;
     private final SpeakerMapper speakerMapper;
+    private final ResourceTagService resourceTagService;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN')")
@@ -34,14 +37,21 @@ public class SpeakerController {
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<SpeakerResponseDto> getSpeakerById(@PathVariable Long id) {
+    public ResponseEntity<SpeakerResponseDto> getSpeakerById(@PathVariable Long id, WebRequest request) {
+        // Si el cliente ya tiene esta versión se responde 304 sin cargar ni serializar el orador
+        if (request.checkNotModified(resourceTagService.speakerTag(id))) {
+            return null;
+        }
         Speaker speaker = speakerService.findById(id);
         return ResponseEntity.ok(speakerMapper.toDto(speaker));
     }
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
-    public ResponseEntity<List<SpeakerResponseDto>> findAll() {
+    public ResponseEntity<List<SpeakerResponseDto>> findAll(WebRequest request) {
+        if (request.checkNotModified(resourceTagService.speakerListTag())) {
+            return null;
+        }
         return ResponseEntity.ok(speakerMapper.toResponseDtoList(speakerService.findAll()));
     }
 
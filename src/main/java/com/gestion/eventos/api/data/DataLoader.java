@@ -3,7 +3,10 @@ package com.gestion.eventos.api.data;
 import com.gestion.eventos.api.domain.*;
 import com.gestion.eventos.api.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,9 +18,12 @@ import java.util.List;
 import java.util.Set;
 
 @Component
+@Profile("!test") // Los tests siembran sus propios datos
 @RequiredArgsConstructor
 public class DataLoader implements CommandLineRunner {
 
+    private static final Logger logger = LoggerFactory.getLogger(DataLoader.class);
+
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
@@ -58,7 +64,7 @@ public class DataLoader implements CommandLineRunner {
             admin.setRoles(adminRoles);
 
             userRepository.save(admin);
-            System.out.println("Usuario 'admin' creado.");
+            logger.info("Usuario 'admin' creado.");
 
         }
 
@@ -76,7 +82,7 @@ public class DataLoader implements CommandLineRunner {
             user.setRoles(userRoles);
 
             userRepository.save(user);
-            System.out.println("Usuario 'user' creado.");
+            logger.info("Usuario 'user' creado.");
 
         }
 
@@ -156,7 +162,7 @@ public class DataLoader implements CommandLineRunner {
             }
 
             eventRepository.saveAll(events);
-            System.out.println("Cargados " + events.size() + " eventos de prueba en la base de datos.");
+            logger.info("Cargados {} eventos de prueba en la base de datos.", events.size());
         }
     }
 
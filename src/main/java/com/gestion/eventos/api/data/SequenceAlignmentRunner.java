@@ -0,0 +1,60 @@
+package com.gestion.eventos.api.data;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Las tablas se crearon con columnas IDENTITY. Las secuencias que ahora usa Hibernate empiezan en 1,
+ * así que en una base existente se adelantan hasta el mayor id de cada tabla antes de cualquier INSERT
+ * (se ejecuta antes que {@link DataLoader}). Nunca se retrocede una secuencia.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SequenceAlignmentRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SequenceAlignmentRunner.class);
+
+    private static final Map<String, String> SEQUENCES_BY_TABLE = Map.of(
+            "events", "events_seq",
+            "speakers", "speakers_seq",
+            "categories", "categories_seq",
+            "roles", "roles_seq",
+            "users", "users_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.datasource.url:}")
+    private String datasourceUrl;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!datasourceUrl.startsWith("jdbc:postgresql:")) {
+            return;
+        }
+
+        SEQUENCES_BY_TABLE.forEach((table, sequence) -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            // Una secuencia recién creada aún no ha entregado last_value (is_called = false)
+            Long lastValue = jdbcTemplate.queryForObject(
+                    "SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END FROM " + sequence, Long.class);
+
+            if (maxId != null && lastValue != null && lastValue < maxId) {
+                // Con el optimizador pooled el siguiente bloque empieza en maxId + 1
+                jdbcTemplate.queryForObject("SELECT setval(?, ?)", Long.class, sequence, maxId);
+                logger.info("Secuencia {} adelantada de {} a {}.", sequence, lastValue, maxId);
+            }
+        });
+    }
+}
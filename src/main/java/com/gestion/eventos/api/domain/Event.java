@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.util.HashSet;
@@ -11,10 +12,18 @@ import java.util.Set;
 
 @Data
 @Entity
-@Table(name = "events" )
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_name_id", columnList = "name, id"),
+        @Index(name = "idx_events_date_id", columnList = "date, id"),
+        // Orden por popularidad en el listado (sort=attendeeCount)
+        @Index(name = "idx_events_attendee_count_id", columnList = "attendee_count, id")
+})
 public class Event {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Secuencia con asignación en bloques de 50: permite agrupar los INSERT en lotes JDBC (IDENTITY no lo permite)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -26,6 +35,29 @@ public class Event {
     @Column(nullable = false)
     private String location;
 
+    // Aforo máximo; null = sin límite
+    private Integer capacity;
+
+    // Solo lo modifican las sentencias de asistencia de EventRepository (comprobar aforo y reservar plaza
+    // en un único UPDATE). updatable = false: un flush de la entidad nunca sobrescribe el valor de la DB
+    @Column(name = "attendee_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @EqualsAndHashCode.Exclude
+    private int attendeeCount;
+
+    // Número de oradores, mantenido junto a la colección (addSpeaker/removeSpeaker y EventService.update)
+    // para no inicializar speakers solo para contarlos. EventCounterReconciler corrige cualquier desviación
+    @Column(name = "speaker_count", nullable = false)
+    @ColumnDefault("0")
+    @EqualsAndHashCode.Exclude
+    private int speakerCount;
+
+    // Base de los ETag: Hibernate la incrementa en cada actualización (también al cambiar los oradores)
+    @Version
+    @ColumnDefault("0")
+    @EqualsAndHashCode.Exclude
+    private Long version;
+
     @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinTable(
             name = "event_speakers",
@@ -46,14 +78,16 @@ public class Event {
     private Set<User> attendedUsers = new HashSet<>();
 
 
+    // Solo se modifica el lado propietario (event_speakers): sincronizar Speaker.events obligaría a
+    // cargar todo el historial de eventos del orador. Esa colección se lee de la DB cuando se necesita.
     public void addSpeaker(Speaker speaker) {
         this.speakers.add(speaker);
-        speaker.getEvents().add(this);
+        this.speakerCount = this.speakers.size();
     }
 
     public void removeSpeaker(Speaker speaker) {
         this.speakers.remove(speaker);
-        speaker.getEvents().remove(this);
+        this.speakerCount = this.speakers.size();
     }
 
 }
@@ -0,0 +1,25 @@
+package com.gestion.eventos.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contador de cambios de una colección (eventos, oradores, categorías...). Vive en la base de datos
+ * para que todas las instancias calculen el mismo ETag de listado y vean las escrituras de las demás.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "resource_generations")
+public class ResourceGeneration {
+
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    @Column(nullable = false)
+    private long generation;
+}
@@ -0,0 +1,31 @@
+package com.gestion.eventos.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * JWT revocado antes de su expiración (logout o revocación). Solo hace falta guardarlo mientras
+ * el token podría seguir siendo válido: pasada {@code expiresAt} la fila se purga.
+ */
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+public class RevokedToken {
+
+    // Claim 'jti' del token
+    @Id
+    @Column(length = 64)
+    private String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+}
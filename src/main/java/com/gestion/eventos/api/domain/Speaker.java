@@ -3,18 +3,23 @@ package com.gestion.eventos.api.domain;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 @Entity
 @Table(name = "speakers")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "speakers")
 public class Speaker {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "speakers_seq")
+    @SequenceGenerator(name = "speakers_seq", sequenceName = "speakers_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -25,10 +30,24 @@ public class Speaker {
 
     private String bio;
 
+    @Version
+    @ColumnDefault("0")
+    @EqualsAndHashCode.Exclude
+    @JsonIgnore
+    private Long version;
+
     @ManyToMany(mappedBy = "speakers")
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
     @JsonIgnore
     private Set<Event> events = new HashSet<>();
 
+    public Speaker(Long id, String name, String email, String bio, Set<Event> events) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.bio = bio;
+        this.events = events;
+    }
+
 }
@@ -0,0 +1,22 @@
+package com.gestion.eventos.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventExportDto {
+
+    private Long id;
+    private String name;
+    private LocalDate date;
+    private String location;
+    private String categoryName;
+    private List<Long> speakerIds;
+
+}
@@ -0,0 +1,10 @@
+package com.gestion.eventos.api.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Fila de la exportación: un evento por cada orador (o una sola fila si no tiene oradores).
+ */
+public record EventExportRow(Long id, String name, LocalDate date, String location,
+                             String categoryName, Long speakerId) {
+}
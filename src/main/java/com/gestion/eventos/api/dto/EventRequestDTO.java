@@ -3,6 +3,7 @@ package com.gestion.eventos.api.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Data;
 
 import java.time.LocalDate;
@@ -26,4 +27,8 @@ public class EventRequestDTO {
     private Long categoryId;
 
     private Set<Long> speakersIds;
+
+    @Schema(description = "Aforo máximo; sin valor no hay límite", example = "200")
+    @Positive(message = "El aforo debe ser mayor que cero.")
+    private Integer capacity;
 }
@@ -1,20 +1,28 @@
 package com.gestion.eventos.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.time.LocalDate;
 import java.util.Set;
 
+// Con 'fields' y 'expand' lo no pedido queda a null y no se serializa
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class EventResponseDTO {
 
     private Long id;
     private String name;
     private LocalDate date;
     private String location;
+    private Integer capacity;
 
     private Long categoryId;
     private String categoryName;
 
     private Set<SpeakerResponseDto> speakers;
+
+    // Contadores desnormalizados de la tabla events: no requieren cargar colecciones
+    private Integer attendeeCount;
+    private Integer speakerCount;
 }
@@ -0,0 +1,7 @@
+package com.gestion.eventos.api.dto;
+
+/**
+ * Orador de un evento en las respuestas con 'expand=speakers': una fila por par evento-orador.
+ */
+public record EventSpeakerRow(Long eventId, Long id, String name, String email, String bio) {
+}
@@ -0,0 +1,26 @@
+package com.gestion.eventos.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportJobStatusDto {
+
+    private String jobId;
+    private String type;
+    private String status;
+    private long rowsProcessed;
+    private long rowsImported;
+    private long rowsRejected;
+    private double rowsPerSecond;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private List<String> errors;
+
+}
@@ -1,11 +1,16 @@
 package com.gestion.eventos.api.exception;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.method.ParameterErrors;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -13,6 +18,8 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Object> handlerValidationExceptions(MethodArgumentNotValidException ex){
 
@@ -32,6 +39,35 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    // Validación de parámetros del método, p. ej. cada elemento de List<@Valid EventRequestDTO>
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<Object> handlerMethodValidationException(HandlerMethodValidationException ex){
+
+        Map<String, String> errors = new HashMap<>();
+
+        ex.getParameterValidationResults().forEach(result -> {
+            String prefix = result.getContainerIndex() != null
+                    ? "[" + result.getContainerIndex() + "]"
+                    : result.getMethodParameter().getParameterName();
+
+            if (result instanceof ParameterErrors parameterErrors) {
+                parameterErrors.getFieldErrors().forEach(error ->
+                        errors.put(prefix + "." + error.getField(), error.getDefaultMessage()));
+            } else {
+                result.getResolvableErrors().forEach(error -> errors.put(prefix, error.getDefaultMessage()));
+            }
+        });
+
+        Map<String, Object> body = new HashMap<>();
+
+        body.put("status", HttpStatus.BAD_REQUEST.value());
+        body.put("error", "Bad request" );
+        body.put("message", "Errores validación" );
+        body.put("errors", errors );
+
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<Object> handlerResourceNotFoundException(ResourceNotFoundException ex){
 
@@ -43,6 +79,41 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(ResourceConflictException.class)
+    public ResponseEntity<Object> handlerResourceConflictException(ResourceConflictException ex){
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("error", "Conflict" );
+        body.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Object> handlerBadRequestException(BadRequestException ex){
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", HttpStatus.BAD_REQUEST.value());
+        body.put("error", "Bad request" );
+        body.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Object> handlerServiceUnavailableException(ServiceUnavailableException ex){
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("error", "Service Unavailable" );
+        body.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body);
+    }
+
     // Versión súper simple para producción sin detalles específicos de la DB
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<Map<String, String>> handleDataIntegrityViolationSimple(DataIntegrityViolationException ex) {
@@ -62,8 +133,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGeneralException(Exception ex) {
 
-        System.err.println("Ocurrió un error inesperado: " + ex.getMessage());
-        ex.printStackTrace(); // En producción, se loguea, no se imprime a consola
+        logger.error("Ocurrió un error inesperado: {}", ex.getMessage(), ex);
 
         Map<String, String> errorDetails = new HashMap<>();
         errorDetails.put("error", "Error Interno del Servidor");
@@ -3,11 +3,13 @@ package com.gestion.eventos.api.mapper;
 import com.gestion.eventos.api.domain.Category;
 import com.gestion.eventos.api.dto.CategoryDto;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface CategoryMapper {
 
     CategoryDto toDto(Category category);
+    @Mapping(target = "version", ignore = true)
     Category toEntity(CategoryDto categoryDto);
 
 }
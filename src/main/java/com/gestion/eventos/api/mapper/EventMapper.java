@@ -18,6 +18,9 @@ public interface EventMapper {
     @Mapping(target = "category", ignore = true)
     @Mapping(target = "speakers", ignore = true)
     @Mapping(target = "attendedUsers", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "attendeeCount", ignore = true)
+    @Mapping(target = "speakerCount", ignore = true)
     Event toEntity(EventRequestDTO eventRequestDTO);
 
     //mapeo para la salida
@@ -32,6 +35,9 @@ public interface EventMapper {
     @Mapping(target = "category", ignore = true)
     @Mapping(target = "speakers", ignore = true)
     @Mapping(target = "attendedUsers", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "attendeeCount", ignore = true)
+    @Mapping(target = "speakerCount", ignore = true)
     void updateEventFromDTO(EventRequestDTO dto, @MappingTarget Event event);
 
     EventSummaryDto toSummary(Event event);
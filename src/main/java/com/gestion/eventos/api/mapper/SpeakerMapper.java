@@ -16,11 +16,13 @@ public interface SpeakerMapper {
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "events", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Speaker toEntity(SpeakerRequestDto speakerDto);
 
     List<SpeakerResponseDto> toResponseDtoList(List<Speaker> speakers);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "events", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateSpeakerFromDto(SpeakerRequestDto speakerRequestDto, @MappingTarget Speaker speaker);
 }
@@ -0,0 +1,72 @@
+package com.gestion.eventos.api.monitoring;
+
+import com.gestion.eventos.api.security.config.BoundedPasswordEncoder;
+import com.gestion.eventos.api.security.ratelimit.RateLimitFilter;
+import com.gestion.eventos.api.service.EventResponseCache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métricas propias de la aplicación. Las de HTTP (http.server.requests), repositorios
+ * (spring.data.repository.invocations), Hikari, JVM e hilos virtuales las registra Spring Boot. El tiempo
+ * de cada hash (security.password.hash) lo registra el propio BoundedPasswordEncoder.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Necesario para que @Timed en los servicios genere temporizadores
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder passwordEncoderMetrics(BoundedPasswordEncoder passwordEncoder) {
+        return registry -> {
+            Gauge.builder("security.password.hash.queue", passwordEncoder, BoundedPasswordEncoder::getQueueDepth)
+                    .description("Hashes de contraseña esperando en la cola")
+                    .register(registry);
+            Gauge.builder("security.password.hash.active", passwordEncoder, BoundedPasswordEncoder::getActiveCount)
+                    .description("Hashes de contraseña en curso")
+                    .register(registry);
+            FunctionCounter.builder("security.password.hash.rejected", passwordEncoder, BoundedPasswordEncoder::getRejectedCount)
+                    .description("Hashes rechazados con 503 por cola llena")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder eventResponseCacheMetrics(EventResponseCache eventResponseCache) {
+        return registry -> {
+            Gauge.builder("cache.size", eventResponseCache, EventResponseCache::estimatedSize)
+                    .tag("cache", "event-responses")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", eventResponseCache, cache -> cache.stats().hitCount())
+                    .tags("cache", "event-responses", "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", eventResponseCache, cache -> cache.stats().missCount())
+                    .tags("cache", "event-responses", "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("cache.evictions", eventResponseCache, cache -> cache.stats().evictionCount())
+                    .tag("cache", "event-responses")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder rateLimitMetrics(RateLimitFilter rateLimitFilter) {
+        return registry -> {
+            FunctionCounter.builder("http.rate-limit.rejected", rateLimitFilter, RateLimitFilter::getRejectedCount)
+                    .description("Peticiones rechazadas con 429")
+                    .register(registry);
+            Gauge.builder("http.rate-limit.keys", rateLimitFilter, RateLimitFilter::getTrackedKeys)
+                    .description("Usuarios e IPs con bucket en memoria")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,67 @@
+package com.gestion.eventos.api.monitoring;
+
+/**
+ * Contadores SQL de la petición en curso: sentencias preparadas, entidades cargadas y colecciones
+ * inicializadas de forma perezosa. Viven en un ThreadLocal que abre y cierra {@link SqlStatsFilter};
+ * fuera de una petición (tareas programadas, importaciones en segundo plano) no se cuenta nada.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    // Un único hilo por petición: no hace falta sincronizar
+    private long statements;
+    private long entityLoads;
+    private long collectionLoads;
+
+    private RequestSqlStats() {
+    }
+
+    public static RequestSqlStats start() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** Contadores de la petición actual, o {@code null} si no se está midiendo. */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static void statementPrepared() {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoads++;
+        }
+    }
+
+    static void collectionLoaded() {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.collectionLoads++;
+        }
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getEntityLoads() {
+        return entityLoads;
+    }
+
+    public long getCollectionLoads() {
+        return collectionLoads;
+    }
+}
@@ -0,0 +1,16 @@
+package com.gestion.eventos.api.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta cada sentencia que Hibernate prepara (consultas, inserciones, actualizaciones, nativas)
+ * sin modificarla. Se registra con {@code hibernate.session_factory.statement_inspector}.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStats.statementPrepared();
+        return sql;
+    }
+}
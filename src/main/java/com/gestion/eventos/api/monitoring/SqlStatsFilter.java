@@ -0,0 +1,77 @@
+package com.gestion.eventos.api.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Mide las sentencias SQL de cada petición: las agrega por endpoint en Micrometer
+ * (http.server.sql.statements, .entity-loads y .collection-loads, etiquetadas por método y patrón de URI)
+ * y avisa en el log cuando una petición supera {@code sql-stats.warn-threshold}, síntoma típico de N+1.
+ * <p>
+ * Va detrás de la cadena de seguridad, así que solo cuenta el trabajo del endpoint.
+ */
+@Component
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatsFilter.class);
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public SqlStatsFilter(MeterRegistry meterRegistry,
+                          @Value("${sql-stats.warn-threshold:10}") int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        RequestSqlStats stats = RequestSqlStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.clear();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestSqlStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String method = request.getMethod();
+
+        summary("http.server.sql.statements", method, uri).record(stats.getStatements());
+        summary("http.server.sql.entity-loads", method, uri).record(stats.getEntityLoads());
+        summary("http.server.sql.collection-loads", method, uri).record(stats.getCollectionLoads());
+
+        if (stats.getStatements() > warnThreshold) {
+            logger.warn("Posible N+1 en {} {}: {} sentencias SQL ({} entidades, {} colecciones perezosas).",
+                    method, request.getRequestURI(), stats.getStatements(), stats.getEntityLoads(), stats.getCollectionLoads());
+        } else {
+            logger.debug("{} {}: {} sentencias SQL ({} entidades, {} colecciones perezosas).",
+                    method, request.getRequestURI(), stats.getStatements(), stats.getEntityLoads(), stats.getCollectionLoads());
+        }
+    }
+
+    private DistributionSummary summary(String name, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+}
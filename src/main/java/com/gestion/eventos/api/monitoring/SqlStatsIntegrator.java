@@ -0,0 +1,30 @@
+package com.gestion.eventos.api.monitoring;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+
+/**
+ * Añade a Hibernate los listeners que cuentan entidades cargadas y colecciones inicializadas
+ * por petición. Se descubre mediante META-INF/services.
+ * <p>
+ * Una colección traída con JOIN FETCH no dispara INIT_COLLECTION: solo cuentan las que se cargan
+ * al acceder a ellas, que es exactamente el patrón N+1.
+ */
+public class SqlStatsIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getEventListenerRegistry();
+        registry.appendListeners(EventType.POST_LOAD,
+                (PostLoadEventListener) event -> RequestSqlStats.entityLoaded());
+        registry.appendListeners(EventType.INIT_COLLECTION,
+                (InitializeCollectionEventListener) event -> RequestSqlStats.collectionLoaded());
+    }
+}
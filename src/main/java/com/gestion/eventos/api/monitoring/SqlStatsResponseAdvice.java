@@ -0,0 +1,47 @@
+package com.gestion.eventos.api.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Con {@code sql-stats.headers=true} (dev y tests) añade a cada respuesta los contadores SQL de la petición.
+ * Se escriben justo antes del cuerpo, cuando las cabeceras aún pueden cambiarse; con los DTOs ya
+ * construidos en el servicio no quedan consultas pendientes en ese punto.
+ */
+@RestControllerAdvice
+public class SqlStatsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ENTITY_LOADS_HEADER = "X-SQL-Entity-Loads";
+    public static final String COLLECTION_LOADS_HEADER = "X-SQL-Collection-Loads";
+
+    private final boolean enabled;
+
+    public SqlStatsResponseAdvice(@Value("${sql-stats.headers:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, Long.toString(stats.getStatements()));
+            response.getHeaders().set(ENTITY_LOADS_HEADER, Long.toString(stats.getEntityLoads()));
+            response.getHeaders().set(COLLECTION_LOADS_HEADER, Long.toString(stats.getCollectionLoads()));
+        }
+        return body;
+    }
+}
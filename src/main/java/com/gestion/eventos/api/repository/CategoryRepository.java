@@ -1,13 +1,26 @@
 package com.gestion.eventos.api.repository;
 
 import com.gestion.eventos.api.domain.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Category> findByName(String name);
     boolean existsByName(String name);
 
+    @Query("SELECT COALESCE(c.version, 0) FROM Category c WHERE c.id = :id")
+    Optional<Long> findVersionById(Long id);
+
+    @Query("SELECT c.id FROM Category c WHERE c.id IN :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
 }
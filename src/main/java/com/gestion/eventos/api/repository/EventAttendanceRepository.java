@@ -0,0 +1,25 @@
+package com.gestion.eventos.api.repository;
+
+/**
+ * Sentencias nativas de asistencia y contadores sobre la fila del evento y la tabla de unión, sin cargar colecciones.
+ * Van en un fragmento propio para declarar las tablas que modifican: un UPDATE/INSERT nativo sin
+ * query spaces hace que Hibernate vacíe todas las regiones de la caché de segundo nivel.
+ */
+public interface EventAttendanceRepository {
+
+    /**
+     * Reserva una plaza si queda aforo. El UPDATE condicional comprueba el aforo de forma atómica y el
+     * bloqueo de fila que toma serializa solo las peticiones del mismo evento hasta el commit.
+     */
+    int reserveSeat(Long eventId);
+
+    int releaseSeat(Long eventId);
+
+    /** La clave primaria (user_id, event_id) descarta el duplicado de dos peticiones simultáneas. */
+    int insertAttendance(Long userId, Long eventId);
+
+    int deleteAttendance(Long userId, Long eventId);
+
+    /** Recalcula los contadores de un evento desde las tablas de unión (con su fila ya bloqueada mediante lockById). */
+    int recalculateCounters(Long eventId);
+}
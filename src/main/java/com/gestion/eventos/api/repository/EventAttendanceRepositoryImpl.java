@@ -0,0 +1,73 @@
+package com.gestion.eventos.api.repository;
+
+import com.gestion.eventos.api.domain.Event;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+
+@RequiredArgsConstructor
+class EventAttendanceRepositoryImpl implements EventAttendanceRepository {
+
+    private static final String ATTENDANCE_TABLE = "user_attended_events";
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int reserveSeat(Long eventId) {
+        return eventUpdate("""
+                UPDATE events SET attendee_count = attendee_count + 1
+                WHERE id = :eventId AND (capacity IS NULL OR attendee_count < capacity)""")
+                .setParameter("eventId", eventId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int releaseSeat(Long eventId) {
+        return eventUpdate("UPDATE events SET attendee_count = attendee_count - 1 WHERE id = :eventId AND attendee_count > 0")
+                .setParameter("eventId", eventId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int insertAttendance(Long userId, Long eventId) {
+        return attendanceUpdate("""
+                INSERT INTO user_attended_events (user_id, event_id) VALUES (:userId, :eventId)
+                ON CONFLICT DO NOTHING""")
+                .setParameter("userId", userId)
+                .setParameter("eventId", eventId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteAttendance(Long userId, Long eventId) {
+        return attendanceUpdate("DELETE FROM user_attended_events WHERE user_id = :userId AND event_id = :eventId")
+                .setParameter("userId", userId)
+                .setParameter("eventId", eventId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int recalculateCounters(Long eventId) {
+        return eventUpdate("""
+                UPDATE events SET
+                    attendee_count = (SELECT COUNT(*) FROM user_attended_events a WHERE a.event_id = :eventId),
+                    speaker_count = (SELECT COUNT(*) FROM event_speakers s WHERE s.event_id = :eventId)
+                WHERE id = :eventId""")
+                .setParameter("eventId", eventId)
+                .executeUpdate();
+    }
+
+    // Solo se invalida lo que depende de la tabla events (entidad Event y consultas cacheadas sobre ella)
+    private NativeQuery<?> eventUpdate(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Event.class);
+    }
+
+    // Solo se invalidan las colecciones mapeadas sobre la tabla de unión (attendedUsers / attendedEvents)
+    private NativeQuery<?> attendanceUpdate(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(ATTENDANCE_TABLE);
+    }
+}
@@ -1,19 +1,109 @@
 package com.gestion.eventos.api.repository;
 
 import com.gestion.eventos.api.domain.Event;
+import com.gestion.eventos.api.dto.EventExportRow;
+import com.gestion.eventos.api.dto.EventSpeakerRow;
+import com.gestion.eventos.api.dto.EventSummaryDto;
 import jakarta.annotation.Nonnull;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventAttendanceRepository {
 
-    Page<Event> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    // Listado paginado en dos fases: primero los ids de la página (sin COUNT, lo calcula EventCountService)...
+    @Query("SELECT e.id FROM Event e")
+    Slice<Long> findAllIds(Pageable pageable);
+
+    @Query("SELECT e.id FROM Event e WHERE LOWER(e.name) LIKE :pattern ESCAPE '\\'")
+    Slice<Long> findIdsByNamePattern(String pattern, Pageable pageable);
+
+    // ...y después categoría y oradores de toda la página en una sola consulta, sin paginar en memoria
+    @Query("SELECT e FROM Event e JOIN FETCH e.category LEFT JOIN FETCH e.speakers WHERE e.id IN :ids")
+    List<Event> findAllWithCategoryAndSpeakersByIdIn(Collection<Long> ids);
+
+    // Asociaciones de las vistas parciales (expand=...): solo columnas, una consulta por asociación
+    @Query("""
+            SELECT new com.gestion.eventos.api.dto.EventSpeakerRow(e.id, s.id, s.name, s.email, s.bio)
+            FROM Event e JOIN e.speakers s WHERE e.id IN :ids""")
+    List<EventSpeakerRow> findSpeakerRowsByEventIdIn(Collection<Long> ids);
+
+    long countByNameContainingIgnoreCase(String name);
+
+    // Para el ETag: versión y asistentes (la asistencia no toca la versión), sin cargar la entidad
+    @Query("""
+            SELECT CONCAT(CAST(COALESCE(e.version, 0) AS String), '-', CAST(e.attendeeCount AS String))
+            FROM Event e WHERE e.id = :id""")
+    Optional<String> findTagStateById(Long id);
+
+    // Bloqueo de la fila del evento; las sentencias de asistencia están en EventAttendanceRepository
+    @Query(value = "SELECT id FROM events WHERE id = :eventId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(Long eventId);
+
+    @Query(value = """
+            SELECT COUNT(*) > 0 FROM user_attended_events
+            WHERE user_id = :userId AND event_id = :eventId""", nativeQuery = true)
+    boolean isAttending(Long userId, Long eventId);
+
+    // Conciliación de contadores: eventos cuyo contador no coincide con las tablas de unión
+    // (el recálculo está en EventAttendanceRepository)
+    @Query(value = """
+            SELECT e.id FROM events e
+            WHERE e.attendee_count <> (SELECT COUNT(*) FROM user_attended_events a WHERE a.event_id = e.id)
+               OR e.speaker_count <> (SELECT COUNT(*) FROM event_speakers s WHERE s.event_id = e.id)""",
+            nativeQuery = true)
+    List<Long> findIdsWithCounterDrift();
+
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE relname = 'events'", nativeQuery = true)
+    Long estimateCountFromPlanner();
+
+    @Query(value = "SELECT COUNT(*) FROM (SELECT 1 FROM events LIMIT :cap) t", nativeQuery = true)
+    long countCapped(int cap);
+
+    @Query(value = """
+            SELECT COUNT(*) FROM (
+                SELECT 1 FROM events WHERE LOWER(name) LIKE :pattern ESCAPE '\\' LIMIT :cap
+            ) t""", nativeQuery = true)
+    long countByNameCapped(String pattern, int cap);
+
+    // Proyecciones por constructor: sin hidratar entidades ni llenar el contexto de persistencia
+    @Query("SELECT new com.gestion.eventos.api.dto.EventSummaryDto(e.id, e.name, e.date, e.location) FROM Event e")
+    Slice<EventSummaryDto> findAllSummaries(Pageable pageable);
+
+    @Query("""
+            SELECT new com.gestion.eventos.api.dto.EventSummaryDto(e.id, e.name, e.date, e.location)
+            FROM Event e WHERE LOWER(e.name) LIKE :pattern ESCAPE '\\'""")
+    Slice<EventSummaryDto> findSummariesByNamePattern(String pattern, Pageable pageable);
+
+    // Paginación por cursor (keyset): sin COUNT y con búsqueda por índice (name|date, id)
+    Window<Event> findByNameContainingIgnoreCase(String name, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Event> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    // Exportación: proyección en streaming con fetch size, sin entidades gestionadas que acumular
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.gestion.eventos.api.dto.EventExportRow(e.id, e.name, e.date, e.location, c.name, s.id)
+            FROM Event e JOIN e.category c LEFT JOIN e.speakers s
+            ORDER BY e.id""")
+    Stream<EventExportRow> streamAllForExport();
 
     @Query("SELECT e FROM Event e JOIN FETCH e.category LEFT JOIN FETCH e.speakers")
     List<Event> findAllWithCategoryAndSpeakers();
@@ -33,10 +123,17 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @EntityGraph(attributePaths = {"category", "speakers"})
     Optional<Event> findById(Long id);
 
-    @EntityGraph(attributePaths = {"category", "speakers", "attendedUsers"})
-    @Query("SELECT e FROM Event e")
-    List<Event> findAllWithAllDetails();
+    // Carga por colección: un JOIN FETCH de speakers y attendedUsers a la vez devolvería
+    // eventos × oradores × asistentes filas. Cada consulta inicializa su colección en el
+    // contexto de persistencia, así que las filas crecen con la suma y no con el producto.
+    @Query("SELECT e FROM Event e JOIN FETCH e.category ORDER BY e.id")
+    List<Event> findAllWithCategory();
 
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.speakers WHERE e.id IN :ids")
+    List<Event> fetchSpeakersByIdIn(Collection<Long> ids);
 
+    // Los roles de User son EAGER: se traen en la misma consulta para no lanzar un SELECT por asistente
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.attendedUsers u LEFT JOIN FETCH u.roles WHERE e.id IN :ids")
+    List<Event> fetchAttendedUsersByIdIn(Collection<Long> ids);
 
 }
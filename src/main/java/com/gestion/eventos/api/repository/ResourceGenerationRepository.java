@@ -0,0 +1,22 @@
+package com.gestion.eventos.api.repository;
+
+import com.gestion.eventos.api.domain.ResourceGeneration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ResourceGenerationRepository extends JpaRepository<ResourceGeneration, String> {
+
+    @Query("SELECT g.generation FROM ResourceGeneration g WHERE g.name = :name")
+    Optional<Long> findGenerationByName(String name);
+
+    // Se une a la transacción de la escritura: la fila queda bloqueada hasta su commit
+    @Modifying
+    @Transactional
+    @Query("UPDATE ResourceGeneration g SET g.generation = g.generation + 1 WHERE g.name IN :names")
+    int increment(Collection<String> names);
+}
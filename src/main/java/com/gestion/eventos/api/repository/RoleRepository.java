@@ -1,11 +1,16 @@
 package com.gestion.eventos.api.repository;
 
 import com.gestion.eventos.api.domain.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
 
+    // Se consulta en cada registro: resultado en la caché de consultas, entidades en la región "roles"
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(String name);
 }
@@ -1,13 +1,21 @@
 package com.gestion.eventos.api.repository;
 
 import com.gestion.eventos.api.domain.Speaker;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface SpeakerRepository extends JpaRepository<Speaker, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Speaker> findByEmail(String email);
     boolean existsByEmail(String email);
 
+    @Query("SELECT COALESCE(s.version, 0) FROM Speaker s WHERE s.id = :id")
+    Optional<Long> findVersionById(Long id);
+
 }
@@ -2,12 +2,22 @@ package com.gestion.eventos.api.repository;
 
 import com.gestion.eventos.api.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByUsername(String username);
+
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(String username);
+    // Rehash transparente al hacer login (UserDetailsPasswordService): solo la columna, sin cargar el usuario
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.username = :username")
+    int updatePassword(String username, String password);
+
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
 
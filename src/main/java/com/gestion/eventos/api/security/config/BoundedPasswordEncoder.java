@@ -0,0 +1,123 @@
+package com.gestion.eventos.api.security.config;
+
+import com.gestion.eventos.api.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt en un pool propio y acotado. Un pico de logins ya no ocupa todos los núcleos: como mucho
+ * {@code threads} hashes a la vez, hasta {@code queueCapacity} en espera, y el resto se rechaza al
+ * momento con 503 y Retry-After en lugar de hacer cola detrás de las lecturas normales de la API.
+ * <p>
+ * {@link #upgradeEncoding} indica rehash cuando el coste del hash guardado no coincide con el configurado;
+ * con el {@code UserDetailsPasswordService} registrado, Spring Security lo rehace en el siguiente login.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    // Solo el tiempo de BCrypt en el pool, sin la espera en cola (esa se ve en security.password.hash.queue)
+    private final Timer hashTimer;
+    private final LongAdder rejected = new LongAdder();
+
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, long retryAfterSeconds,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.retryAfterSeconds = retryAfterSeconds;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet()));
+        this.hashTimer = Timer.builder("security.password.hash")
+                .description("Tiempo de cada hash o verificación de contraseña con BCrypt")
+                .register(meterRegistry);
+        logger.info("Hash de contraseñas: BCrypt coste {}, {} hilos, cola de {}.", strength, threads, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private <T> T run(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> hashTimer.recordCallable(hashing));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            logger.warn("Cola de hash de contraseñas llena ({} en espera), petición rechazada.", executor.getQueue().size());
+            throw new ServiceUnavailableException("Demasiadas solicitudes de autenticación. Inténtalo más tarde.",
+                    retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hash de contraseña interrumpido.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -2,7 +2,10 @@ package com.gestion.eventos.api.security.config;
 
 import com.gestion.eventos.api.security.jwt.JwtAuthEntryPoint;
 import com.gestion.eventos.api.security.jwt.JwtAuthenticationFilter;
+import com.gestion.eventos.api.security.ratelimit.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
@@ -14,8 +17,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -32,6 +33,7 @@ public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final JwtAuthEntryPoint jwtAuthEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final Environment environment;
 
     @Bean
@@ -48,7 +50,9 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(auth -> {
                     auth
-                            .requestMatchers("/api/v1/auth/**").permitAll();
+                            .requestMatchers("/api/v1/auth/**").permitAll()
+                            // Solo en el puerto de gestión (management.server.port), que no se publica
+                            .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll();
 
                     if (environment.acceptsProfiles(Profiles.of("dev"))){
 
@@ -64,12 +68,21 @@ public class SecurityConfig {
                 });
 
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // Después del filtro JWT: el límite se aplica por usuario cuando hay token y por IP cuando no
+        http.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         return http.build();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // Sin hilos configurados se usa la mitad de los núcleos: el resto queda para el tráfico normal
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.hash-threads:0}") int threads,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.retry-after-seconds:2}") long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        int hashThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(strength, hashThreads, queueCapacity, retryAfterSeconds, meterRegistry);
     }
 
     @Bean
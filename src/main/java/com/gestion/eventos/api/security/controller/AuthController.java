@@ -4,15 +4,21 @@ import com.gestion.eventos.api.domain.User;
 import com.gestion.eventos.api.security.dto.JwtAuthResponseDto;
 import com.gestion.eventos.api.security.dto.LoginDto;
 import com.gestion.eventos.api.security.dto.RegisterDto;
+import com.gestion.eventos.api.security.dto.RevokeTokenDto;
 import com.gestion.eventos.api.mapper.UserMapper;
 import com.gestion.eventos.api.repository.UserRepository;
+import com.gestion.eventos.api.security.jwt.JwtAuthenticationFilter;
 import com.gestion.eventos.api.security.jwt.JwtGenerator;
+import com.gestion.eventos.api.security.service.TokenRevocationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -30,6 +36,7 @@ public class AuthController {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final TokenRevocationService tokenRevocationService;
 
     @PostMapping("/login")
     public ResponseEntity<JwtAuthResponseDto> authenticateUser(@RequestBody LoginDto loginDto) {
@@ -65,4 +72,26 @@ public class AuthController {
 
     }
 
+    // Revoca el token con el que se hace la petición (hasta su expiración)
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest request) {
+
+        String token = JwtAuthenticationFilter.getJwtFromRequest(request);
+        if (token != null) {
+            jwtGenerator.verify(token).ifPresent(tokenRevocationService::revoke);
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
+    // Revocación de un token concreto (por ejemplo, filtrado) por parte de un administrador
+    @PostMapping("/revoke")
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    public ResponseEntity<Void> revokeToken(@Valid @RequestBody RevokeTokenDto revokeTokenDto) {
+
+        jwtGenerator.verify(revokeTokenDto.getToken()).ifPresent(tokenRevocationService::revoke);
+
+        return ResponseEntity.noContent().build();
+    }
+
 }
@@ -0,0 +1,12 @@
+package com.gestion.eventos.api.security.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RevokeTokenDto {
+
+    @NotBlank(message = "El token es obligatorio.")
+    private String token;
+
+}
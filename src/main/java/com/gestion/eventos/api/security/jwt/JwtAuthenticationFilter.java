@@ -1,27 +1,42 @@
 package com.gestion.eventos.api.security.jwt;
 
+import com.gestion.eventos.api.security.service.CachedUserDetailsLookup;
+import com.gestion.eventos.api.security.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
     private final JwtGenerator jwtGenerator;
-    private final UserDetailsService userDetailsService;
+    private final CachedUserDetailsLookup userDetailsLookup;
+    private final TokenRevocationService tokenRevocationService;
+
+    // false: las autoridades se leen siempre de la DB (con la caché de CachedUserDetailsLookup)
+    @Value("${jwt.authorities-from-token:true}")
+    private boolean authoritiesFromToken;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -29,12 +44,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = getJwtFromRequest(request);
 
-        if(StringUtils.hasText(token) && jwtGenerator.validateToken(token)
-                && SecurityContextHolder.getContext().getAuthentication()==null
-        ){
-            String username = jwtGenerator.getUsernameFromJwt(token);
+        // Una sola verificación por petición (firma y expiración); los claims ya traen el usuario
+        Claims claims = StringUtils.hasText(token) && SecurityContextHolder.getContext().getAuthentication()==null
+                ? jwtGenerator.verify(token).orElse(null)
+                : null;
+
+        // Un token revocado se trata como ausente: el entry point responde 401
+        if(claims != null && tokenRevocationService.isRevoked(claims)){
+            logger.debug("Token revocado (jti {}) de {}.", claims.getId(), claims.getSubject());
+            claims = null;
+        }
+
+        if(claims != null){
+            String username = claims.getSubject();
+            List<GrantedAuthority> authorities = authoritiesFromToken ? jwtGenerator.getAuthorities(claims) : null;
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            // Con las autoridades en el token no hay consulta a la DB; los tokens anteriores a ellas sí la necesitan
+            UserDetails userDetails = authorities != null
+                    ? new User(username, "", authorities)
+                    : userDetailsLookup.loadUserByUsername(username);
 
             UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                     userDetails, null, userDetails.getAuthorities()
@@ -51,7 +79,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
 
-    private String getJwtFromRequest(HttpServletRequest request){
+    public static String getJwtFromRequest(HttpServletRequest request){
         String bearerToken = request.getHeader("Authorization");
         if(StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")){
             return bearerToken.substring(7);
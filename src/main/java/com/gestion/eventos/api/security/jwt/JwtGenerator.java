@@ -1,77 +1,172 @@
 package com.gestion.eventos.api.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
-
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emite y verifica los JWT. La clave y el parser se construyen una sola vez (ambos son inmutables y
+ * seguros entre hilos) y los tokens ya verificados se guardan en una caché acotada hasta su expiración,
+ * de modo que cada petición autenticada no vuelve a comprobar la firma HMAC del mismo token.
+ */
 @Component
 public class JwtGenerator {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    private static final Logger logger = LoggerFactory.getLogger(JwtGenerator.class);
+
+    // Autoridades del usuario al emitir el token: el filtro construye la autenticación sin ir a la DB
+    public static final String ROLES_CLAIM = "roles";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+
+    // Clave: SHA-256 del token, para no retener tokens en claro ni claves de tamaño arbitrario
+    private final Cache<String, Claims> verifiedTokens;
+
+    // jwt.verification por resultado: cached (sin comprobar firma), verified e invalid
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer invalidTimer;
+
+    public JwtGenerator(@Value("${jwt.secret}") String jwtSecret,
+                        @Value("${jwt.expiration}") long jwtExpiration,
+                        @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+                        MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.jwtExpiration = jwtExpiration;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(Expiry.<String, Claims>creating((key, claims) -> untilExpiration(claims)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
+        this.cachedTimer = verificationTimer(meterRegistry, "cached");
+        this.verifiedTimer = verificationTimer(meterRegistry, "verified");
+        this.invalidTimer = verificationTimer(meterRegistry, "invalid");
     }
 
     public String generateToken(Authentication authentication) {
 
         String username = authentication.getName();
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
         Date currentDate = new Date();
         Date expireDate = new Date(currentDate.getTime() + jwtExpiration);
 
         String token = Jwts.builder()
                 .subject(username)
+                .id(UUID.randomUUID().toString())
+                .claim(ROLES_CLAIM, roles)
                 .issuedAt(new Date())
                 .expiration(expireDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
 
         return token;
     }
 
-    public String getUsernameFromJwt(String token){
+    /**
+     * Verifica firma y expiración y devuelve los claims en una sola pasada;
+     * vacío si el token no es válido.
+     */
+    public Optional<Claims> verify(String token) {
+        long start = System.nanoTime();
+        String key = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && !isExpired(cached)) {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() != null) {
+                // Sin 'exp' no se cachea: la caché solo guarda tokens con fecha de caducidad conocida
+                verifiedTokens.put(key, claims);
+            }
+            verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(claims);
+        } catch (ExpiredJwtException e) {
+            logger.debug("JWT expirado: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            logger.warn("JWT mal formado: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            logger.warn("JWT no soportado: {}", e.getMessage());
+        } catch (SecurityException e) {
+            logger.warn("Firma del JWT no válida: {}", e.getMessage());
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.warn("JWT no válido: {}", e.getMessage());
+        }
+        invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return Optional.empty();
+    }
 
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verification")
+                .description("Verificación de JWT en el filtro de autenticación")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 
-        return claims.getSubject();
+    /**
+     * Autoridades incluidas en el token, o {@code null} si es un token emitido antes de incluirlas.
+     */
+    public List<GrantedAuthority> getAuthorities(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(roles instanceof Collection<?> values)) {
+            return null;
+        }
+        return values.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList();
     }
 
-    public boolean validateToken(String token) {
-        try {
-            // La forma moderna para validación también
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);// Aquí solo nos interesa que no lance excepción
+    private static boolean isExpired(Claims claims) {
+        return claims.getExpiration().getTime() <= System.currentTimeMillis();
+    }
 
-            return true;
+    private static Duration untilExpiration(Claims claims) {
+        long millis = claims.getExpiration().getTime() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(0, millis));
+    }
 
-        } catch (MalformedJwtException e) {
-            System.out.println("Invalid JWT token: " + e.getMessage());
-        } catch (ExpiredJwtException e) {
-            System.out.println("JWT token is expired: " + e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            System.out.println("JWT token is unsupported: " + e.getMessage());
-        } catch (IllegalArgumentException e) {
-            System.out.println("JWT claims string is empty: " + e.getMessage());
-        } catch (SignatureException e) { // Importante para HS512
-            System.out.println("Signature validation failed: " + e.getMessage());
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Todas las JVM incluyen SHA-256
+            throw new IllegalStateException(e);
         }
-        return false;
     }
 
-}
\ No newline at end of file
+}
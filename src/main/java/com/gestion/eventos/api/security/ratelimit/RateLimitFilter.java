@@ -0,0 +1,127 @@
+package com.gestion.eventos.api.security.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limita peticiones por usuario (del JWT, por eso va después de JwtAuthenticationFilter) o, sin usuario,
+ * por IP. Cada grupo de rutas tiene su propio límite:
+ * <ul>
+ *     <li>auth: /api/v1/auth/** siempre por IP (login y registro son anónimos y caros: BCrypt)</li>
+ *     <li>write: POST/PUT/PATCH/DELETE</li>
+ *     <li>read: el resto</li>
+ * </ul>
+ * Al superar el límite se responde 429 con Retry-After, sin llegar al controlador.
+ * <p>
+ * La IP es {@code request.getRemoteAddr()}: detrás de un proxy o balanceador hay que activar
+ * {@code server.forward-headers-strategy} para que sea la del cliente y no la del proxy.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+    private static final String AUTH_PATH = "/api/v1/auth/";
+    // Mismo formato que las respuestas de GlobalExceptionHandler; el contenido es fijo
+    private static final byte[] TOO_MANY_REQUESTS_BODY = """
+            {"status":429,"error":"Too Many Requests","message":"Demasiadas peticiones. Inténtalo más tarde."}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final boolean enabled;
+    private final RateLimiter authLimiter;
+    private final RateLimiter writeLimiter;
+    private final RateLimiter readLimiter;
+    private final LongAdder rejected = new LongAdder();
+
+    public RateLimitFilter(@Value("${rate-limit.enabled:true}") boolean enabled,
+                           @Value("${rate-limit.auth.per-minute:20}") int authPerMinute,
+                           @Value("${rate-limit.auth.burst:10}") int authBurst,
+                           @Value("${rate-limit.write.per-minute:120}") int writePerMinute,
+                           @Value("${rate-limit.write.burst:30}") int writeBurst,
+                           @Value("${rate-limit.read.per-minute:1200}") int readPerMinute,
+                           @Value("${rate-limit.read.burst:200}") int readBurst,
+                           @Value("${rate-limit.idle-timeout:10m}") Duration idleTimeout,
+                           @Value("${rate-limit.max-keys:100000}") long maxKeys) {
+        this.enabled = enabled;
+        this.authLimiter = new RateLimiter(authPerMinute, authBurst, idleTimeout, maxKeys);
+        this.writeLimiter = new RateLimiter(writePerMinute, writeBurst, idleTimeout, maxKeys);
+        this.readLimiter = new RateLimiter(readPerMinute, readBurst, idleTimeout, maxKeys);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        long waitNanos;
+        if (path.startsWith(AUTH_PATH)) {
+            waitNanos = authLimiter.tryAcquire("ip:" + request.getRemoteAddr());
+        } else if (isWrite(request.getMethod())) {
+            waitNanos = writeLimiter.tryAcquire(clientKey(request));
+        } else {
+            waitNanos = readLimiter.tryAcquire(clientKey(request));
+        }
+
+        if (waitNanos > 0) {
+            rejected.increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            logger.debug("Límite de peticiones superado para {} en {} (Retry-After {}s).",
+                    clientKey(request), path, retryAfterSeconds);
+            // Respuesta escrita aquí: sendError haría un dispatch a /error, que exige autenticación y acabaría en 401
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setContentLength(TOO_MANY_REQUESTS_BODY.length);
+            response.getOutputStream().write(TOO_MANY_REQUESTS_BODY);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static boolean isWrite(String method) {
+        return !HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method) && !HttpMethod.OPTIONS.matches(method);
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getTrackedKeys() {
+        return authLimiter.estimatedKeys() + writeLimiter.estimatedKeys() + readLimiter.estimatedKeys();
+    }
+}
@@ -0,0 +1,57 @@
+package com.gestion.eventos.api.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limitador por clave con GCRA (token bucket equivalente): cada clave guarda solo su "theoretical arrival
+ * time" en un {@link AtomicLong} y se actualiza con CAS, sin bloqueos. Admite {@code burst} peticiones
+ * seguidas y después una cada {@code 1/ratePerMinute} minutos.
+ * <p>
+ * Los buckets sin uso durante {@code idleTimeout} se descartan (un bucket inactivo ya estaría lleno) y el
+ * total está acotado por {@code maxKeys}, así que la memoria no crece con el número de clientes distintos.
+ */
+public class RateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(int ratePerMinute, int burst, Duration idleTimeout, long maxKeys) {
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, ratePerMinute);
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, burst);
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    /**
+     * Consume una petición de la clave. Devuelve 0 si se permite o los nanosegundos
+     * que faltan para que se permita la siguiente.
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong state = buckets.get(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long tat = state.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            long allowAt = newTat - burstToleranceNanos;
+            if (allowAt - now > 0) {
+                return allowAt - now;
+            }
+            if (state.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    public long estimatedKeys() {
+        return buckets.estimatedSize();
+    }
+}
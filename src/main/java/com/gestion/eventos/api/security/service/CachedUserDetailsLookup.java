@@ -0,0 +1,42 @@
+package com.gestion.eventos.api.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Consulta de usuarios para el filtro JWT cuando se quiere comprobar el usuario contra la DB
+ * (tokens sin roles o {@code jwt.authorities-from-token=false}). Con un TTL mayor que cero cada usuario
+ * se consulta como mucho una vez por intervalo; con TTL 0 se consulta en cada petición.
+ * <p>
+ * No es un {@link UserDetailsService}: así el login sigue usando el único servicio registrado y
+ * nunca valida contraseñas contra una copia cacheada.
+ */
+@Component
+public class CachedUserDetailsLookup {
+
+    private final UserDetailsService userDetailsService;
+    private final Cache<String, UserDetails> cache;
+
+    public CachedUserDetailsLookup(UserDetailsService userDetailsService,
+                                   @Value("${security.user-details-cache.ttl:30s}") Duration ttl,
+                                   @Value("${security.user-details-cache.max-size:10000}") long maxSize) {
+        this.userDetailsService = userDetailsService;
+        this.cache = ttl.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public UserDetails loadUserByUsername(String username) {
+        if (cache == null) {
+            return userDetailsService.loadUserByUsername(username);
+        }
+        return cache.get(username, userDetailsService::loadUserByUsername);
+    }
+}
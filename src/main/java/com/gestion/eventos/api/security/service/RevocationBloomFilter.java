@@ -0,0 +1,68 @@
+package com.gestion.eventos.api.security.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom para los 'jti' revocados. Solo puede dar falsos positivos, nunca falsos negativos:
+ * si dice que un jti no está, no está; si dice que está, se confirma en el conjunto exacto.
+ * Admite inserciones concurrentes; no admite borrados (las entradas caducadas se eliminan
+ * reconstruyendo el filtro).
+ */
+class RevocationBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    RevocationBloomFilter(int expectedEntries, double falsePositiveRate) {
+        long n = Math.max(1, expectedEntries);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, m);
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void add(String value) {
+        long h1 = fnv1a64(value);
+        long h2 = mix64(h1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << (bit & 63);
+            int word = (int) (bit >>> 6);
+            bits.getAndAccumulate(word, mask, (current, m) -> current | m);
+        }
+    }
+
+    boolean mightContain(String value) {
+        long h1 = fnv1a64(value);
+        long h2 = mix64(h1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long fnv1a64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // Finalizador de MurmurHash3: segundo hash independiente para el doble hashing
+    private static long mix64(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h | 1;
+    }
+}
@@ -0,0 +1,131 @@
+package com.gestion.eventos.api.security.service;
+
+import com.gestion.eventos.api.domain.RevokedToken;
+import com.gestion.eventos.api.repository.RevokedTokenRepository;
+import com.gestion.eventos.api.service.TransactionCallbacks;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lista de tokens revocados. La tabla revoked_tokens es la fuente de verdad; en memoria hay un filtro de
+ * Bloom y el conjunto exacto de jti revocados no caducados. El caso habitual (token no revocado) se resuelve
+ * con unas pocas comprobaciones de bits, sin consultar la DB; solo un positivo del filtro mira el conjunto.
+ * <p>
+ * Cada {@code security.revocation.refresh-interval} se purgan las filas caducadas y se reconstruye todo desde
+ * la tabla: así las entradas desaparecen con sus tokens y las revocaciones hechas en otras instancias llegan aquí.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final long jwtExpiration;
+
+    private volatile Denylist denylist;
+
+    private record Denylist(RevocationBloomFilter bloom, Map<String, Instant> entries) {
+
+        boolean contains(String jti, Instant now) {
+            if (!bloom.mightContain(jti)) {
+                return false;
+            }
+            Instant expiresAt = entries.get(jti);
+            return expiresAt != null && expiresAt.isAfter(now);
+        }
+
+        void add(String jti, Instant expiresAt) {
+            entries.put(jti, expiresAt);
+            bloom.add(jti);
+        }
+    }
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  @Value("${security.revocation.expected-entries:100000}") int expectedEntries,
+                                  @Value("${security.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${jwt.expiration}") long jwtExpiration) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.jwtExpiration = jwtExpiration;
+        this.denylist = new Denylist(new RevocationBloomFilter(expectedEntries, falsePositiveRate), new ConcurrentHashMap<>());
+    }
+
+    /** Tokens sin 'jti' (emitidos antes de incluirlo) no pueden revocarse individualmente. */
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        return jti != null && denylist.contains(jti, Instant.now());
+    }
+
+    @Transactional
+    public void revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            logger.warn("Token de {} sin jti: no se puede revocar.", claims.getSubject());
+            return;
+        }
+        Instant expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().toInstant()
+                : Instant.now().plusMillis(jwtExpiration);
+
+        if (!revokedTokenRepository.existsById(jti)) {
+            revokedTokenRepository.save(new RevokedToken(jti, expiresAt, Instant.now()));
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                denylist.add(jti, expiresAt);
+            }
+        });
+        logger.info("Token {} de {} revocado hasta {}.", jti, claims.getSubject(), expiresAt);
+    }
+
+    /** Entradas exactas en memoria (revocadas y aún no purgadas). */
+    int size() {
+        return denylist.entries().size();
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.refresh-interval:PT1M}",
+            initialDelayString = "${security.revocation.refresh-interval:PT1M}")
+    public void refresh() {
+        Instant now = Instant.now();
+        int purged = revokedTokenRepository.deleteExpired(now);
+        List<RevokedToken> active = revokedTokenRepository.findByExpiresAtAfter(now);
+
+        Map<String, Instant> entries = new HashMap<>();
+        active.forEach(token -> entries.put(token.getJti(), token.getExpiresAt()));
+
+        synchronized (this) {
+            // Revocaciones confirmadas mientras se leía la tabla
+            denylist.entries().forEach((jti, expiresAt) -> {
+                if (expiresAt.isAfter(now)) {
+                    entries.putIfAbsent(jti, expiresAt);
+                }
+            });
+
+            RevocationBloomFilter bloom = new RevocationBloomFilter(
+                    Math.max(expectedEntries, entries.size() * 2), falsePositiveRate);
+            entries.keySet().forEach(bloom::add);
+            denylist = new Denylist(bloom, new ConcurrentHashMap<>(entries));
+        }
+        logger.debug("Lista de tokens revocados reconstruida: {} activos, {} purgados.", entries.size(), purged);
+    }
+}
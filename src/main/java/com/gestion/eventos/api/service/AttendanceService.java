@@ -0,0 +1,81 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.exception.ResourceConflictException;
+import com.gestion.eventos.api.exception.ResourceNotFoundException;
+import com.gestion.eventos.api.repository.EventRepository;
+import com.gestion.eventos.api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Alta y baja de asistentes con aforo. No se cargan entidades ni colecciones: cada operación son unas
+ * pocas sentencias sobre la fila del evento y la tabla de unión. Ambas operaciones bloquean primero
+ * la fila del evento y después tocan la tabla de unión, siempre en ese orden, para no provocar interbloqueos.
+ * Las dos son idempotentes: repetir un alta o una baja no cambia nada.
+ */
+@Service
+@RequiredArgsConstructor
+public class AttendanceService implements IAttendanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AttendanceService.class);
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final ResourceTagService resourceTagService;
+    private final EventResponseCache eventResponseCache;
+
+    @Override
+    @Transactional
+    public void register(Long eventId, String username) {
+        Long userId = findUserId(username);
+        if (eventRepository.isAttending(userId, eventId)) {
+            logger.debug("El usuario {} ya asiste al evento {}.", username, eventId);
+            return;
+        }
+
+        if (eventRepository.reserveSeat(eventId) == 0) {
+            if (!eventRepository.existsById(eventId)) {
+                throw new ResourceNotFoundException("Evento no encontrado con id: " + eventId);
+            }
+            logger.debug("Evento {} completo, rechazada la inscripción de {}.", eventId, username);
+            throw new ResourceConflictException("El evento con id " + eventId + " ha alcanzado su aforo máximo.");
+        }
+
+        if (eventRepository.insertAttendance(userId, eventId) == 0) {
+            // Otra petición del mismo usuario se inscribió entre la comprobación y la reserva: se devuelve la plaza
+            eventRepository.releaseSeat(eventId);
+            return;
+        }
+
+        resourceTagService.attendanceChanged();
+        eventResponseCache.evict(eventId);
+        logger.info("Usuario {} inscrito en el evento {}.", username, eventId);
+    }
+
+    @Override
+    @Transactional
+    public void unregister(Long eventId, String username) {
+        Long userId = findUserId(username);
+        if (eventRepository.lockById(eventId).isEmpty()) {
+            throw new ResourceNotFoundException("Evento no encontrado con id: " + eventId);
+        }
+
+        if (eventRepository.deleteAttendance(userId, eventId) == 0) {
+            logger.debug("El usuario {} no asistía al evento {}.", username, eventId);
+            return;
+        }
+
+        eventRepository.releaseSeat(eventId);
+        resourceTagService.attendanceChanged();
+        eventResponseCache.evict(eventId);
+        logger.info("Usuario {} dado de baja del evento {}.", username, eventId);
+    }
+
+    private Long findUserId(String username) {
+        return userRepository.findIdByUsername(username).orElseThrow(
+                () -> new ResourceNotFoundException("Usuario no encontrado: " + username));
+    }
+}
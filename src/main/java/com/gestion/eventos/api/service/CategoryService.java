@@ -9,12 +9,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryService implements ICategoryService{
 
     private final CategoryRepository categoryRepository;
+    private final ResourceTagService resourceTagService;
+    private final EventResponseCache eventResponseCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -25,7 +28,9 @@ public class CategoryService implements ICategoryService{
     @Override
     @Transactional
     public Category save(Category category) {
-        return categoryRepository.save(category);
+        Category savedCategory = categoryRepository.save(category);
+        resourceTagService.categoriesChanged();
+        return savedCategory;
     }
 
     @Override
@@ -38,7 +43,10 @@ public class CategoryService implements ICategoryService{
         existingCategory.setName(category.getName());
         existingCategory.setDescription(category.getDescription());
 
-        return categoryRepository.save(existingCategory);
+        Category updatedCategory = categoryRepository.save(existingCategory);
+        resourceTagService.categoriesChanged();
+        eventResponseCache.evictByCategory(id);
+        return updatedCategory;
     }
 
     @Override
@@ -48,6 +56,28 @@ public class CategoryService implements ICategoryService{
                 () -> new ResourceNotFoundException("Categoria no encontrada con el id: " + id));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void checkAllExist(Set<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        Set<Long> existingIds = categoryRepository.findExistingIds(ids);
+        if (existingIds.size() != ids.size()) {
+            List<Long> missingIds = ids.stream()
+                    .filter(id -> !existingIds.contains(id))
+                    .sorted()
+                    .toList();
+            throw new ResourceNotFoundException("Categorias no encontradas con los ids: " + missingIds);
+        }
+    }
+
+    /** Referencia sin consulta; usar solo con ids ya comprobados con {@link #checkAllExist(Set)}. */
+    @Override
+    public Category getReferenceById(Long id) {
+        return categoryRepository.getReferenceById(id);
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
@@ -55,5 +85,7 @@ public class CategoryService implements ICategoryService{
             throw new ResourceNotFoundException("Categoria no encontrada con el id: " + id);
         }
         categoryRepository.deleteById(id);
+        resourceTagService.categoriesChanged();
+        eventResponseCache.evictByCategory(id);
     }
 }
@@ -0,0 +1,87 @@
+package com.gestion.eventos.api.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector CSV incremental (RFC 4180): devuelve un registro cada vez, sin cargar el fichero en memoria.
+ * Admite campos entre comillas con comas, comillas dobles escapadas ("") y saltos de línea.
+ */
+public class CsvRowReader implements Closeable {
+
+    private final BufferedReader reader;
+    private long lineNumber = 1;
+    private long recordLine = 1;
+
+    public CsvRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /** Siguiente registro, o {@code null} al final del fichero. Las líneas vacías se saltan. */
+    public List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        recordLine = lineNumber;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (following != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                lineNumber++;
+                if (fields.isEmpty() && field.isEmpty()) {
+                    recordLine = lineNumber;
+                    any = false;
+                    continue;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        if (!any || (fields.isEmpty() && field.isEmpty())) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /** Línea del fichero (1-based) donde empieza el último registro devuelto. */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,27 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * Cómo se calcula el total de elementos del listado paginado de eventos.
+ * EXACT: COUNT(*) en cada petición. CACHED: COUNT(*) cacheado por filtro e invalidado al escribir.
+ * APPROXIMATE: estimación del planificador de Postgres o COUNT acotado a un máximo.
+ */
+public enum EventCountMode {
+    EXACT,
+    CACHED,
+    APPROXIMATE;
+
+    public static EventCountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Modo de conteo no soportado: " + value);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.repository.EventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Calcula el total de eventos para los listados paginados según {@link EventCountMode}.
+ */
+@Service
+public class EventCountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventCountService.class);
+
+    private final EventRepository eventRepository;
+
+    private final Cache<String, Long> cache;
+    // Se incrementa en cada invalidación: un conteo iniciado antes de una escritura no se cachea
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${events.count.default-mode:exact}")
+    private String defaultMode;
+
+    @Value("${events.count.approximate-cap:10000}")
+    private int approximateCap;
+
+    @Value("${spring.datasource.url:}")
+    private String datasourceUrl;
+
+    @Autowired
+    public EventCountService(EventRepository eventRepository,
+                             @Value("${events.count.cache-ttl:30s}") Duration cacheTtl,
+                             @Value("${events.count.cache-max-entries:1000}") long cacheMaxEntries) {
+        this(eventRepository, cacheTtl, cacheMaxEntries, ForkJoinPool.commonPool());
+    }
+
+    // Los tests pasan Runnable::run para que la expulsión por tamaño sea inmediata
+    EventCountService(EventRepository eventRepository, Duration cacheTtl, long cacheMaxEntries, Executor executor) {
+        this.eventRepository = eventRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxEntries)
+                .expireAfterWrite(cacheTtl)
+                .executor(executor)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public long count(String name, EventCountMode mode) {
+        EventCountMode effectiveMode = mode != null ? mode : EventCountMode.from(defaultMode);
+        String filter = normalize(name);
+
+        return switch (effectiveMode) {
+            case EXACT -> exactCount(filter);
+            case CACHED -> cachedCount(filter);
+            case APPROXIMATE -> approximateCount(filter);
+        };
+    }
+
+    /** Descarta los conteos cacheados cuando la transacción actual hace commit. */
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(() -> {
+            generation.incrementAndGet();
+            cache.invalidateAll();
+            logger.debug("Caché de conteos de eventos invalidada.");
+        });
+    }
+
+    private long exactCount(String filter) {
+        return filter.isEmpty() ? eventRepository.count() : eventRepository.countByNameContainingIgnoreCase(filter);
+    }
+
+    private long cachedCount(String filter) {
+        Long cached = cache.getIfPresent(filter);
+        if (cached != null) {
+            return cached;
+        }
+
+        long currentGeneration = generation.get();
+        long count = exactCount(filter);
+
+        if (generation.get() == currentGeneration) {
+            cache.put(filter, count);
+        }
+        return count;
+    }
+
+    private long approximateCount(String filter) {
+        if (filter.isEmpty() && isPostgres()) {
+            Long estimate = eventRepository.estimateCountFromPlanner();
+            // reltuples vale -1 si la tabla nunca se ha analizado
+            if (estimate != null && estimate >= 0) {
+                return estimate;
+            }
+        }
+        return filter.isEmpty()
+                ? eventRepository.countCapped(approximateCap)
+                : eventRepository.countByNameCapped(LikePatterns.containsIgnoreCase(filter), approximateCap);
+    }
+
+    private boolean isPostgres() {
+        return datasourceUrl.startsWith("jdbc:postgresql:");
+    }
+
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,73 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Repara attendee_count y speaker_count comparándolos con las tablas de unión. Se ejecuta al arrancar
+ * (rellena los contadores de las filas anteriores a las columnas) y periódicamente después.
+ * <p>
+ * Cada evento desviado se corrige en su propia transacción y con su fila bloqueada: así una inscripción
+ * en curso (que bloquea la misma fila) termina antes del recálculo y no se pierde.
+ */
+@Component
+public class EventCounterReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventCounterReconciler.class);
+
+    private final EventRepository eventRepository;
+    private final ResourceTagService resourceTagService;
+    private final EventResponseCache eventResponseCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public EventCounterReconciler(EventRepository eventRepository,
+                                  ResourceTagService resourceTagService,
+                                  EventResponseCache eventResponseCache,
+                                  PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.resourceTagService = resourceTagService;
+        this.eventResponseCache = eventResponseCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${events.counters.reconcile-interval:PT1H}",
+            initialDelayString = "${events.counters.reconcile-interval:PT1H}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /** Corrige los contadores desviados y devuelve cuántos eventos se han corregido. */
+    public int reconcile() {
+        List<Long> driftedIds = eventRepository.findIdsWithCounterDrift();
+        if (driftedIds.isEmpty()) {
+            logger.debug("Contadores de eventos sin desviaciones.");
+            return 0;
+        }
+
+        for (Long eventId : driftedIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (eventRepository.lockById(eventId).isPresent()) {
+                    eventRepository.recalculateCounters(eventId);
+                    resourceTagService.eventsChanged();
+                    eventResponseCache.evict(eventId);
+                }
+            });
+        }
+        logger.warn("Corregidos los contadores de {} eventos.", driftedIds.size());
+        return driftedIds.size();
+    }
+}
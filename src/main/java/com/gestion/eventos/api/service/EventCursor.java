@@ -0,0 +1,65 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.domain.Event;
+import com.gestion.eventos.api.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Posición de la paginación por cursor: último (name, id) o (date, id) devuelto.
+ * Se serializa como un token opaco en Base64 URL-safe: "clave|id|valor".
+ */
+public record EventCursor(String sortKey, Object value, Long id) {
+
+    public static final String SORT_BY_NAME = "name";
+    public static final String SORT_BY_DATE = "date";
+
+    public static String normalizeSortKey(String sortBy) {
+        if (sortBy == null || sortBy.isBlank() || SORT_BY_NAME.equalsIgnoreCase(sortBy)) {
+            return SORT_BY_NAME;
+        }
+        if (SORT_BY_DATE.equalsIgnoreCase(sortBy)) {
+            return SORT_BY_DATE;
+        }
+        throw new BadRequestException("Orden no soportado para paginación por cursor: " + sortBy);
+    }
+
+    public static EventCursor after(String sortKey, Event last) {
+        Object value = SORT_BY_DATE.equals(sortKey) ? last.getDate() : last.getName();
+        return new EventCursor(sortKey, value, last.getId());
+    }
+
+    /** Claves para {@code ScrollPosition.forward(...)}: deben coincidir con las propiedades del Sort. */
+    public Map<String, Object> keys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortKey, value);
+        keys.put("id", id);
+        return keys;
+    }
+
+    public String encode() {
+        String raw = sortKey + "|" + id + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new BadRequestException("Cursor inválido.");
+            }
+            String sortKey = normalizeSortKey(parts[0]);
+            Long id = Long.valueOf(parts[1]);
+            Object value = SORT_BY_DATE.equals(sortKey) ? LocalDate.parse(parts[2]) : parts[2];
+            return new EventCursor(sortKey, value, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Cursor inválido.");
+        }
+    }
+}
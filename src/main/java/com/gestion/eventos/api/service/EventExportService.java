@@ -0,0 +1,75 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.dto.EventExportDto;
+import com.gestion.eventos.api.dto.EventExportRow;
+import com.gestion.eventos.api.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class EventExportService implements IEventExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventExportService.class);
+    private static final int FLUSH_EVERY = 500;
+
+    private final EventRepository eventRepository;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Escribe un evento por línea (NDJSON) leyendo la tabla con un cursor JDBC.
+     * Las filas vienen ordenadas por id, así que solo se mantiene en memoria el evento en curso.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAsNdjson(OutputStream outputStream) throws IOException {
+        logger.debug("Iniciando exportación NDJSON de eventos.");
+        long exported = 0;
+        EventExportDto current = null;
+
+        try (Stream<EventExportRow> rows = eventRepository.streamAllForExport()) {
+            Iterator<EventExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                EventExportRow row = iterator.next();
+
+                if (current == null || !current.getId().equals(row.id())) {
+                    if (current != null) {
+                        writeLine(outputStream, current);
+                        if (++exported % FLUSH_EVERY == 0) {
+                            outputStream.flush();
+                        }
+                    }
+                    current = new EventExportDto(row.id(), row.name(), row.date(), row.location(),
+                            row.categoryName(), new ArrayList<>());
+                }
+                if (row.speakerId() != null) {
+                    current.getSpeakerIds().add(row.speakerId());
+                }
+            }
+        }
+
+        if (current != null) {
+            writeLine(outputStream, current);
+            exported++;
+        }
+        outputStream.flush();
+
+        logger.info("Exportación NDJSON finalizada: {} eventos.", exported);
+        return exported;
+    }
+
+    private void writeLine(OutputStream outputStream, EventExportDto event) throws IOException {
+        outputStream.write(jsonMapper.writeValueAsBytes(event));
+        outputStream.write('\n');
+    }
+}
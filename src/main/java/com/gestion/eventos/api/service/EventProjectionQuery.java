@@ -0,0 +1,109 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.domain.Category;
+import com.gestion.eventos.api.domain.Event;
+import com.gestion.eventos.api.dto.EventResponseDTO;
+import com.gestion.eventos.api.dto.EventSpeakerRow;
+import com.gestion.eventos.api.dto.SpeakerResponseDto;
+import com.gestion.eventos.api.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Construye respuestas parciales de eventos sin hidratar entidades: una consulta Criteria con solo
+ * las columnas pedidas (contadores incluidos, sin JOIN; el de categoría solo si se expande) y una
+ * consulta más para los oradores si se expanden, todas por el conjunto de ids de la página.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventProjectionQuery {
+
+    private final EntityManager entityManager;
+    private final EventRepository eventRepository;
+
+    /** Respuestas de los eventos indicados, en el orden de {@code ids}. */
+    public List<EventResponseDTO> load(List<Long> ids, EventView view) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Event> root = query.from(Event.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : EventView.FIELDS) {
+            if (view.includes(field)) {
+                selections.add(root.get(field).alias(field));
+            }
+        }
+        if (view.category()) {
+            Join<Event, Category> category = root.join("category");
+            selections.add(category.get("id").alias("categoryId"));
+            selections.add(category.get("name").alias("categoryName"));
+        }
+        query.multiselect(selections).where(root.get("id").in(ids));
+
+        Map<Long, EventResponseDTO> dtosById = new HashMap<>();
+        for (Tuple tuple : entityManager.createQuery(query).getResultList()) {
+            EventResponseDTO dto = toDto(tuple, view);
+            dtosById.put(dto.getId(), dto);
+        }
+
+        if (view.speakers()) {
+            dtosById.values().forEach(dto -> dto.setSpeakers(new HashSet<>()));
+            for (EventSpeakerRow row : eventRepository.findSpeakerRowsByEventIdIn(dtosById.keySet())) {
+                dtosById.get(row.eventId()).getSpeakers()
+                        .add(new SpeakerResponseDto(row.id(), row.name(), row.email(), row.bio()));
+            }
+        }
+
+        return ids.stream()
+                .map(dtosById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static EventResponseDTO toDto(Tuple tuple, EventView view) {
+        EventResponseDTO dto = new EventResponseDTO();
+        dto.setId(tuple.get("id", Long.class));
+        if (view.includes("name")) {
+            dto.setName(tuple.get("name", String.class));
+        }
+        if (view.includes("date")) {
+            dto.setDate(tuple.get("date", LocalDate.class));
+        }
+        if (view.includes("location")) {
+            dto.setLocation(tuple.get("location", String.class));
+        }
+        if (view.includes("capacity")) {
+            dto.setCapacity(tuple.get("capacity", Integer.class));
+        }
+        if (view.includes("attendeeCount")) {
+            dto.setAttendeeCount(tuple.get("attendeeCount", Integer.class));
+        }
+        if (view.includes("speakerCount")) {
+            dto.setSpeakerCount(tuple.get("speakerCount", Integer.class));
+        }
+        if (view.category()) {
+            dto.setCategoryId(tuple.get("categoryId", Long.class));
+            dto.setCategoryName(tuple.get("categoryName", String.class));
+        }
+        return dto;
+    }
+}
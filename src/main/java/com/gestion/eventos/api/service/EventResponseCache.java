@@ -0,0 +1,113 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.dto.EventResponseDTO;
+import com.gestion.eventos.api.dto.SpeakerResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caché en memoria de {@link EventResponseDTO} por id, acotada por tamaño estimado en bytes.
+ * <p>
+ * Las invalidaciones se aplican tras el commit. Si una carga está en curso para el mismo id,
+ * Caffeine espera a que termine antes de invalidar, así que no queda guardada una versión anterior.
+ * <p>
+ * Un cambio de orador o de categoría puede afectar a cualquier evento, también a los que se están
+ * cargando en ese momento (que aún no son visibles para una invalidación). Por eso esos cambios vacían
+ * la caché e incrementan una generación: cada entrada guarda la generación leída antes de consultar la
+ * base de datos y, si al leerla ya no coincide, se descarta y se vuelve a cargar. Son escrituras poco
+ * frecuentes, así que vaciarlo todo sale más barato que saber qué eventos incluyen a cada orador.
+ * <p>
+ * Los DTOs cacheados se comparten entre peticiones y no deben modificarse.
+ */
+@Component
+public class EventResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventResponseCache.class);
+
+    private final Cache<Long, Entry> cache;
+    private final AtomicLong referencesGeneration = new AtomicLong();
+
+    public EventResponseCache(@Value("${events.response-cache.max-weight-bytes:16777216}") long maxWeightBytes,
+                              @Value("${events.response-cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Long id, Entry entry) -> estimateSize(entry.dto()))
+                // Red de seguridad por si alguna escritura no pasa por los servicios
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public EventResponseDTO get(Long id, Function<Long, EventResponseDTO> loader) {
+        Function<Long, Entry> load = key -> {
+            // Antes de la consulta: si un orador o una categoría cambia durante la carga, la generación ya no coincide
+            long generation = referencesGeneration.get();
+            return new Entry(generation, loader.apply(key));
+        };
+        Entry entry = cache.get(id, load);
+        if (entry.generation() != referencesGeneration.get()) {
+            cache.asMap().remove(id, entry);
+            entry = cache.get(id, load);
+        }
+        return entry.dto();
+    }
+
+    public void evict(Long eventId) {
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(eventId));
+    }
+
+    public void evictBySpeaker(Long speakerId) {
+        TransactionCallbacks.afterCommit(() -> {
+            evictAllReferences();
+            logger.debug("Caché de eventos vaciada por cambio del orador {}.", speakerId);
+        });
+    }
+
+    public void evictByCategory(Long categoryId) {
+        TransactionCallbacks.afterCommit(() -> {
+            evictAllReferences();
+            logger.debug("Caché de eventos vaciada por cambio de la categoría {}.", categoryId);
+        });
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    // Primero la generación: una carga que termine después del vaciado ya no será válida
+    private void evictAllReferences() {
+        referencesGeneration.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    // Aproximación: cabeceras de objeto más 2 bytes por carácter de cada String
+    private static int estimateSize(EventResponseDTO dto) {
+        int size = 96 + chars(dto.getName()) + chars(dto.getLocation()) + chars(dto.getCategoryName());
+        if (dto.getSpeakers() != null) {
+            for (SpeakerResponseDto speaker : dto.getSpeakers()) {
+                size += 80 + chars(speaker.getName()) + chars(speaker.getEmail()) + chars(speaker.getBio());
+            }
+        }
+        return size;
+    }
+
+    private static int chars(String value) {
+        return value == null ? 0 : 40 + 2 * value.length();
+    }
+
+    private record Entry(long generation, EventResponseDTO dto) {
+    }
+}
@@ -4,55 +4,174 @@ import com.gestion.eventos.api.domain.Category;
 import com.gestion.eventos.api.domain.Event;
 import com.gestion.eventos.api.domain.Speaker;
 import com.gestion.eventos.api.domain.User;
+import com.gestion.eventos.api.dto.CursorPageDto;
 import com.gestion.eventos.api.dto.EventRequestDTO;
 import com.gestion.eventos.api.dto.EventResponseDTO;
+import com.gestion.eventos.api.dto.EventSummaryDto;
 import com.gestion.eventos.api.exception.ResourceNotFoundException;
 import com.gestion.eventos.api.mapper.EventMapper;
 import com.gestion.eventos.api.repository.EventRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "events.service", histogram = true)
 public class EventService implements IEventService {
 
     private static final Logger logger = LoggerFactory.getLogger(EventService.class); // Añadir Logger
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // Tamaño de cada IN (...) al cargar colecciones por lotes de ids
+    private static final int DETAILS_ID_CHUNK_SIZE = 1000;
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
     private final CategoryService categoryService;
     private final SpeakerService speakerService;
+    private final EventCountService eventCountService;
+    private final ResourceTagService resourceTagService;
+    private final EventResponseCache eventResponseCache;
+    private final EventProjectionQuery eventProjectionQuery;
+    private final EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
 
     @Override
     @Transactional(readOnly = true)
-    public Page<EventResponseDTO> findAll(String name, Pageable pageable) {
-        logger.debug("Buscando eventos en el servicio (name: '{}', pageable: {}).", name, pageable);
-        Page<Event> eventsPage;
+    public Page<EventResponseDTO> findAll(String name, Pageable pageable, EventCountMode countMode, EventView view) {
+        logger.debug("Buscando eventos en el servicio (name: '{}', pageable: {}, count: {}, view: {}).", name, pageable, countMode, view);
+        Slice<Long> idsSlice;
+        Pageable stablePageable = withIdTieBreaker(pageable);
 
         if(name!=null && !name.trim().isEmpty()){
-            eventsPage = eventRepository.findByNameContainingIgnoreCase(name, pageable);
-            logger.debug("Filtrando eventos por nombre: '{}'. Encontrados: {}.", name, eventsPage.getTotalElements());
+            idsSlice = eventRepository.findIdsByNamePattern(LikePatterns.containsIgnoreCase(name), stablePageable);
+            logger.debug("Filtrando eventos por nombre: '{}'. En la página: {}.", name, idsSlice.getNumberOfElements());
         }else {
-            eventsPage = eventRepository.findAll(pageable);
-            logger.debug("Buscando todos los eventos sin filtro. Encontrados: {}.", eventsPage.getTotalElements());
+            idsSlice = eventRepository.findAllIds(stablePageable);
+            logger.debug("Buscando todos los eventos sin filtro. En la página: {}.", idsSlice.getNumberOfElements());
         }
 
-        List<EventResponseDTO> dtos = eventsPage.getContent().stream()
+        List<EventResponseDTO> dtos = findResponsesInOrder(idsSlice.getContent(), view);
+
+        // El COUNT solo se ejecuta si el total no se deduce de la propia página
+        Page<EventResponseDTO> page = PageableExecutionUtils.getPage(dtos, pageable,
+                () -> eventCountService.count(name, countMode));
+
+        logger.debug("Encontrados {} eventos paginados y mapeados a DTOs.", page.getTotalElements());
+        return page;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EventSummaryDto> findAllSummaries(String name, Pageable pageable, EventCountMode countMode) {
+        logger.debug("Buscando resumen de eventos (name: '{}', pageable: {}).", name, pageable);
+        Slice<EventSummaryDto> summaries;
+        Pageable stablePageable = withIdTieBreaker(pageable);
+
+        if(name!=null && !name.trim().isEmpty()){
+            summaries = eventRepository.findSummariesByNamePattern(LikePatterns.containsIgnoreCase(name), stablePageable);
+        }else {
+            summaries = eventRepository.findAllSummaries(stablePageable);
+        }
+
+        return PageableExecutionUtils.getPage(summaries.getContent(), pageable,
+                () -> eventCountService.count(name, countMode));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<EventResponseDTO> findAllByCursor(String name, String after, String sortBy, int size, EventView view) {
+        EventCursor cursor = (after != null && !after.isBlank()) ? EventCursor.decode(after) : null;
+        // Si hay cursor manda su orden: cambiar de orden a mitad del recorrido no tiene sentido
+        String sortKey = cursor != null ? cursor.sortKey() : EventCursor.normalizeSortKey(sortBy);
+        int limit = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        logger.debug("Buscando eventos por cursor (name: '{}', sortBy: {}, size: {}).", name, sortKey, limit);
+
+        ScrollPosition position = cursor != null ? ScrollPosition.forward(cursor.keys()) : ScrollPosition.keyset();
+        Sort sort = Sort.by(sortKey).and(Sort.by("id"));
+
+        Window<Event> window;
+        if(name!=null && !name.trim().isEmpty()){
+            window = eventRepository.findByNameContainingIgnoreCase(name, position, sort, Limit.of(limit));
+        }else {
+            window = eventRepository.findAllBy(position, sort, Limit.of(limit));
+        }
+
+        List<Long> ids = window.getContent().stream().map(Event::getId).toList();
+        List<EventResponseDTO> dtos = findResponsesInOrder(ids, view);
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? EventCursor.after(sortKey, window.getContent().getLast()).encode()
+                : null;
+
+        logger.debug("Devueltos {} eventos por cursor (hasNext: {}).", dtos.size(), window.hasNext());
+        return new CursorPageDto<>(dtos, dtos.size(), nextCursor, nextCursor != null);
+    }
+
+    /**
+     * Añade el id como último criterio de orden: con OFFSET, filas empatadas en el orden pedido
+     * (p. ej. muchos eventos con attendeeCount 0) podrían repetirse o saltarse entre páginas.
+     */
+    private static Pageable withIdTieBreaker(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().getOrderFor("id") != null) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(Sort.by("id")));
+    }
+
+    /**
+     * Respuesta completa: entidades con categoría y oradores pasadas por el mapper. Vista parcial:
+     * proyección con solo las columnas y asociaciones pedidas.
+     */
+    private List<EventResponseDTO> findResponsesInOrder(List<Long> ids, EventView view) {
+        if (!EventView.isFull(view)) {
+            return eventProjectionQuery.load(ids, view);
+        }
+        return findAllWithDetailsInOrder(ids).stream()
                 .map(eventMapper::toResponseDto)
                 .toList();
+    }
+
+    /**
+     * Carga categoría y oradores de los eventos indicados con una sola consulta,
+     * conservando el orden de los ids (el de la página).
+     */
+    private List<Event> findAllWithDetailsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Event> eventsById = eventRepository.findAllWithCategoryAndSpeakersByIdIn(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity(), (first, second) -> first));
 
-        logger.info("Encontrados {} eventos paginados y mapeados a DTOs.", eventsPage.getTotalElements());
-        return new PageImpl<>(dtos, pageable, eventsPage.getTotalElements());
+        return ids.stream()
+                .map(eventsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
@@ -67,19 +186,73 @@ public class EventService implements IEventService {
 
         if(requestDto.getSpeakersIds() !=null && !requestDto.getSpeakersIds().isEmpty()){
             logger.debug("Asignando {} oradores al evento.", requestDto.getSpeakersIds().size());
-            Set<Speaker> speakers = requestDto.getSpeakersIds().stream()
-                    .map(speakerService::findById)
-                    .collect(Collectors.toSet());
+            Set<Speaker> speakers = speakerService.findAllByIds(requestDto.getSpeakersIds());
             speakers.forEach(event::addSpeaker);
         } else {
             logger.debug("No se especificaron oradores para el evento.");
         }
 
         Event savedEvent = eventRepository.save(event);
+        eventCountService.invalidate();
+        resourceTagService.eventsChanged();
         logger.info("Evento '{}' guardado en DB con ID: {}.", savedEvent.getName(), savedEvent.getId());
         return savedEvent;
     }
 
+    /**
+     * Alta masiva en una sola transacción. Las referencias se validan antes de insertar nada
+     * (una consulta para categorías y otra para oradores) y los eventos se vuelcan en bloques del
+     * tamaño del lote JDBC, que se desprenden del contexto de persistencia tras cada flush.
+     */
+    @Override
+    @Transactional
+    public List<Long> saveAll(List<EventRequestDTO> requestDtos) {
+        logger.debug("Procesando alta masiva de {} eventos en el servicio.", requestDtos.size());
+
+        Set<Long> categoryIds = requestDtos.stream()
+                .map(EventRequestDTO::getCategoryId)
+                .collect(Collectors.toSet());
+        categoryService.checkAllExist(categoryIds);
+
+        Set<Long> speakerIds = requestDtos.stream()
+                .map(EventRequestDTO::getSpeakersIds)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+        Map<Long, Speaker> speakersById = speakerService.findAllByIds(speakerIds).stream()
+                .collect(Collectors.toMap(Speaker::getId, Function.identity()));
+
+        int chunkSize = Math.max(1, batchSize);
+        List<Long> ids = new ArrayList<>(requestDtos.size());
+
+        for (int from = 0; from < requestDtos.size(); from += chunkSize) {
+            List<Event> chunk = requestDtos.subList(from, Math.min(from + chunkSize, requestDtos.size())).stream()
+                    .map(requestDto -> {
+                        Event event = eventMapper.toEntity(requestDto);
+                        // Proxy sin consulta: la existencia ya se comprobó arriba
+                        event.setCategory(categoryService.getReferenceById(requestDto.getCategoryId()));
+                        if (requestDto.getSpeakersIds() != null) {
+                            requestDto.getSpeakersIds().forEach(speakerId -> event.addSpeaker(speakersById.get(speakerId)));
+                        }
+                        return event;
+                    })
+                    .toList();
+
+            eventRepository.saveAll(chunk);
+            eventRepository.flush();
+            // Solo se desprenden los eventos: categorías y oradores siguen gestionados para el resto de bloques
+            chunk.forEach(event -> {
+                ids.add(event.getId());
+                entityManager.detach(event);
+            });
+        }
+
+        eventCountService.invalidate();
+        resourceTagService.eventsChanged();
+        logger.info("Alta masiva completada: {} eventos guardados en DB.", ids.size());
+        return ids;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Event findById(Long id) {
@@ -92,6 +265,24 @@ public class EventService implements IEventService {
         );
     }
 
+    /**
+     * Sin {@code @Transactional} a propósito: un acierto de caché no debe abrir transacción ni pedir conexión.
+     * En un fallo, {@code findById} usa el entity graph, así que el mapeo no dispara cargas perezosas.
+     * Solo se cachea la respuesta completa; las vistas parciales van a la proyección.
+     */
+    @Override
+    public EventResponseDTO findResponseById(Long id, EventView view) {
+        if (!EventView.isFull(view)) {
+            return eventProjectionQuery.load(List.of(id), view).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new ResourceNotFoundException("Evento no encontrado con id: " + id));
+        }
+        return eventResponseCache.get(id, eventId -> {
+            logger.debug("Evento con ID {} no está en caché, cargando desde el repositorio.", eventId);
+            return eventMapper.toResponseDto(findById(eventId));
+        });
+    }
+
     @Override
     @Transactional
     public Event update(Long id, EventRequestDTO requestDto) {
@@ -112,35 +303,35 @@ public class EventService implements IEventService {
             existingEvent.setCategory(category);
         }
 
-        Set<Speaker> updatedSpeakers;
-        if(requestDto.getSpeakersIds() !=null && !requestDto.getSpeakersIds().isEmpty()){
-            logger.debug("Procesando {} oradores para la actualización del evento.", requestDto.getSpeakersIds().size());
-            updatedSpeakers = requestDto.getSpeakersIds().stream()
-                    .map(speakerService::findById)
-                    .collect(Collectors.toSet());
-        } else {
-            updatedSpeakers = new HashSet<>();
-            logger.debug("No se especificaron oradores para la actualización, se eliminarán los existentes si los hay.");
+        // Diferencia por ids contra los oradores actuales del evento: Hibernate solo inserta/borra
+        // las filas de event_speakers que cambian y solo se consultan los oradores nuevos
+        Set<Long> requestedIds = requestDto.getSpeakersIds() != null ? requestDto.getSpeakersIds() : Set.of();
+        Set<Long> currentIds = existingEvent.getSpeakers().stream()
+                .map(Speaker::getId)
+                .collect(Collectors.toSet());
+
+        Set<Long> removedIds = new HashSet<>(currentIds);
+        removedIds.removeAll(requestedIds);
+        Set<Long> addedIds = new HashSet<>(requestedIds);
+        addedIds.removeAll(currentIds);
+        logger.debug("Oradores del evento {}: {} a eliminar, {} a añadir.", id, removedIds.size(), addedIds.size());
+
+        if(!removedIds.isEmpty()){
+            existingEvent.getSpeakers().removeIf(currentSpeaker -> removedIds.contains(currentSpeaker.getId()));
+            logger.debug("Eliminados oradores con IDs {} del evento.", removedIds);
         }
 
-        // Eliminar oradores que ya no están en la lista de actualización
-        new HashSet<>(existingEvent.getSpeakers())
-                .forEach(currentSpeaker -> {
-                    if(!updatedSpeakers.contains(currentSpeaker)){
-                        existingEvent.removeSpeaker(currentSpeaker);
-                        logger.debug("Eliminando orador '{}' (ID: {}) del evento.", currentSpeaker.getName(), currentSpeaker.getId());
-                    }
-                });
-
-        // Añadir nuevos oradores
-        updatedSpeakers.forEach(newSpeaker -> {
-            if(!existingEvent.getSpeakers().contains(newSpeaker)){
-                existingEvent.addSpeaker(newSpeaker);
-                logger.debug("Añadiendo orador '{}' (ID: {}) al evento.", newSpeaker.getName(), newSpeaker.getId());
-            }
-        });
+        if(!addedIds.isEmpty()){
+            speakerService.findAllByIds(addedIds).forEach(existingEvent::addSpeaker);
+            logger.debug("Añadidos oradores con IDs {} al evento.", addedIds);
+        }
+        // La colección ya está cargada: el contador se escribe en el mismo UPDATE que el resto del evento
+        existingEvent.setSpeakerCount(existingEvent.getSpeakers().size());
 
         Event updatedEvent = eventRepository.save(existingEvent);
+        eventCountService.invalidate();
+        resourceTagService.eventsChanged();
+        eventResponseCache.evict(id);
         logger.info("Evento con ID {} actualizado en la base de datos.", id);
         return updatedEvent;
     }
@@ -151,6 +342,9 @@ public class EventService implements IEventService {
         logger.debug("Solicitud de eliminación para evento con ID {} en el servicio.", id);
         Event eventToDelete = this.findById(id); // findById ya lanzará ResourceNotFoundException si no existe
         eventRepository.delete(eventToDelete);
+        eventCountService.invalidate();
+        resourceTagService.eventsChanged();
+        eventResponseCache.evict(id);
         logger.info("Evento con ID {} eliminado de la base de datos.", id);
     }
 
@@ -175,51 +369,51 @@ public class EventService implements IEventService {
         logger.debug("Iniciando getAllEventsAndTheirDetailsOptimizedWithJoinFetch en el servicio.");
         List<Event> events = eventRepository.findAllWithCategoryAndSpeakers();
 
-        events.forEach( event ->{
-            logger.debug("Detalles de evento (Join Fetch) - ID: {}, Nombre: {}, Categoría: {}, Oradores: {}",
-                    event.getId(),
-                    event.getName(),
-                    event.getCategory().getName(),
-                    event.getSpeakers().stream().map(Speaker::getName).collect(Collectors.joining(", "))
-            );
-            // Estos System.out.println() probablemente no deberían ir en un servicio real, pero los mantengo por tu demo
-            System.out.println("Event: " + event.getName());
-            System.out.println("Category: " + event.getCategory().getName());
-            System.out.println("Speakers: " + event.getSpeakers()
-                    .stream().map(Speaker::getName)
-                    .collect(Collectors.joining(", "))
-            );
-        });
+        // Las cadenas unidas solo se construyen si DEBUG está activo
+        events.forEach( event ->
+            logger.atDebug()
+                    .setMessage("Detalles de evento (Join Fetch) - ID: {}, Nombre: {}, Categoría: {}, Oradores: {}")
+                    .addArgument(event.getId())
+                    .addArgument(event.getName())
+                    .addArgument(() -> event.getCategory().getName())
+                    .addArgument(() -> joinNames(event.getSpeakers(), Speaker::getName))
+                    .log()
+        );
         logger.debug("Finalizado getAllEventsAndTheirDetailsOptimizedWithJoinFetch para {} eventos.", events.size());
         return events;
     }
 
     @Transactional(readOnly = true)
     public List<Event> findAllEventsWithAllDetailsOptimized() {
-        logger.debug("Iniciando findAllEventsWithAllDetailsOptimized (@EntityGraph) en el servicio.");
-        System.out.println("\n--- DEMO: findAllWithAllDetails (@EntityGraph con Category, Speakers, AttendedUsers) ---"); // Mantengo el System.out por tu demo
-        List<Event> events = eventRepository.findAllWithAllDetails();
-        events.forEach(event -> {
-            logger.debug("Detalles de evento (EntityGraph) - ID: {}, Nombre: {}, Categoría: {}, Oradores: {}, Usuarios Asistentes: {}",
-                    event.getId(),
-                    event.getName(),
-                    event.getCategory() != null ? event.getCategory().getName() : "N/A",
-                    event.getSpeakers() != null && !event.getSpeakers().isEmpty() ? event.getSpeakers().stream().map(Speaker::getName).collect(Collectors.joining(", ")) : "N/A",
-                    event.getAttendedUsers() != null && !event.getAttendedUsers().isEmpty() ? event.getAttendedUsers().stream().map(User::getUsername).collect(Collectors.joining(", ")) : "N/A"
-            );
-            // Estos System.out.println() probablemente no deberían ir en un servicio real, pero los mantengo por tu demo
-            System.out.println("Event: " + event.getName());
-            if (event.getCategory() != null) {
-                System.out.println("  Category: " + event.getCategory().getName());
-            }
-            if (event.getSpeakers() != null && !event.getSpeakers().isEmpty()) {
-                System.out.println("  Speakers: " + event.getSpeakers().stream().map(Speaker::getName).collect(Collectors.joining(", ")));
-            }
-            if (event.getAttendedUsers() != null && !event.getAttendedUsers().isEmpty()) {
-                System.out.println("  Attended Users: " + event.getAttendedUsers().stream().map(User::getUsername).collect(Collectors.joining(", ")));
-            }
-        });
+        logger.debug("Iniciando findAllEventsWithAllDetailsOptimized (multi-consulta) en el servicio.");
+        List<Event> events = eventRepository.findAllWithCategory();
+        List<Long> ids = events.stream().map(Event::getId).toList();
+        // Las consultas devuelven las mismas instancias del contexto de persistencia con la colección
+        // ya inicializada; el resultado no hace falta, solo el efecto sobre las entidades de 'events'
+        for (int from = 0; from < ids.size(); from += DETAILS_ID_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + DETAILS_ID_CHUNK_SIZE, ids.size()));
+            eventRepository.fetchSpeakersByIdIn(chunk);
+            eventRepository.fetchAttendedUsersByIdIn(chunk);
+        }
+        // Las cadenas unidas solo se construyen si DEBUG está activo
+        events.forEach(event ->
+            logger.atDebug()
+                    .setMessage("Detalles de evento (multi-consulta) - ID: {}, Nombre: {}, Categoría: {}, Oradores: {}, Usuarios Asistentes: {}")
+                    .addArgument(event.getId())
+                    .addArgument(event.getName())
+                    .addArgument(() -> event.getCategory() != null ? event.getCategory().getName() : "N/A")
+                    .addArgument(() -> joinNames(event.getSpeakers(), Speaker::getName))
+                    .addArgument(() -> joinNames(event.getAttendedUsers(), User::getUsername))
+                    .log()
+        );
         logger.debug("Finalizado findAllEventsWithAllDetailsOptimized para {} eventos.", events.size());
         return events;
     }
+
+    private static <T> String joinNames(Collection<T> items, Function<T, String> name) {
+        if (items == null || items.isEmpty()) {
+            return "N/A";
+        }
+        return items.stream().map(name).collect(Collectors.joining(", "));
+    }
 }
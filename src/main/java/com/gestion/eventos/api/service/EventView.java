@@ -0,0 +1,84 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.exception.BadRequestException;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Parte de un evento que pide el cliente con los parámetros 'fields' (columnas) y 'expand' (asociaciones).
+ * Sin ninguno de los dos se devuelve la respuesta completa de siempre; con 'fields' y sin 'expand' no se
+ * incluye ninguna asociación, y con 'expand' y sin 'fields' se incluyen todas las columnas. El id va siempre.
+ * Los contadores son columnas de events; 'expand=attendeeCount' se sigue aceptando y equivale a pedir ese campo.
+ * Ninguno de los dos parámetros distingue mayúsculas: 'fields=attendeecount' equivale a 'fields=attendeeCount'.
+ */
+public record EventView(Set<String> fields, boolean category, boolean speakers) {
+
+    public static final List<String> FIELDS = List.of("id", "name", "date", "location", "capacity",
+            "attendeeCount", "speakerCount");
+    public static final EventView FULL = new EventView(Set.copyOf(FIELDS), true, true);
+
+    private static final Map<String, String> FIELDS_BY_KEY = FIELDS.stream()
+            .collect(Collectors.toUnmodifiableMap(field -> field.toLowerCase(Locale.ROOT), Function.identity()));
+
+    public EventView {
+        fields = Set.copyOf(fields);
+    }
+
+    public static EventView from(String expand, String fields) {
+        boolean hasExpand = expand != null && !expand.isBlank();
+        boolean hasFields = fields != null && !fields.isBlank();
+        if (!hasExpand && !hasFields) {
+            return null;
+        }
+
+        Set<String> selectedFields = new LinkedHashSet<>();
+        selectedFields.add("id");
+        if (hasFields) {
+            for (String field : split(fields)) {
+                String canonical = FIELDS_BY_KEY.get(field.toLowerCase(Locale.ROOT));
+                if (canonical == null) {
+                    throw new BadRequestException("Campo no soportado: " + field + ". Valores válidos: " + FIELDS);
+                }
+                selectedFields.add(canonical);
+            }
+        } else {
+            selectedFields.addAll(FIELDS);
+        }
+
+        boolean category = false, speakers = false;
+        if (hasExpand) {
+            for (String association : split(expand)) {
+                switch (association.toLowerCase(Locale.ROOT)) {
+                    case "category" -> category = true;
+                    case "speakers" -> speakers = true;
+                    case "attendeecount" -> selectedFields.add("attendeeCount");
+                    default -> throw new BadRequestException("Expansión no soportada: " + association
+                            + ". Valores válidos: [speakers, category, attendeeCount]");
+                }
+            }
+        }
+        return new EventView(selectedFields, category, speakers);
+    }
+
+    public static boolean isFull(EventView view) {
+        return view == null || FULL.equals(view);
+    }
+
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,8 @@
+package com.gestion.eventos.api.service;
+
+public interface IAttendanceService {
+
+    void register(Long eventId, String username);
+    void unregister(Long eventId, String username);
+
+}
@@ -4,6 +4,7 @@ import com.gestion.eventos.api.domain.Category;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ICategoryService {
 
@@ -11,5 +12,7 @@ public interface ICategoryService {
     Category save(Category category);
     Category update(Long id, Category category);
     Category findById(Long id);
+    void checkAllExist(Set<Long> ids);
+    Category getReferenceById(Long id);
     void deleteById(Long id);
 }
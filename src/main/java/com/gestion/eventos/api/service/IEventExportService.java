@@ -0,0 +1,8 @@
+package com.gestion.eventos.api.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface IEventExportService {
+    long exportAsNdjson(OutputStream outputStream) throws IOException;
+}
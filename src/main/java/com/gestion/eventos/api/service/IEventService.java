@@ -1,18 +1,24 @@
 package com.gestion.eventos.api.service;
 
 import com.gestion.eventos.api.domain.Event;
+import com.gestion.eventos.api.dto.CursorPageDto;
 import com.gestion.eventos.api.dto.EventRequestDTO;
 import com.gestion.eventos.api.dto.EventResponseDTO;
+import com.gestion.eventos.api.dto.EventSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
 public interface IEventService {
-    Page<EventResponseDTO> findAll(String name, Pageable pageable);
+    Page<EventResponseDTO> findAll(String name, Pageable pageable, EventCountMode countMode, EventView view);
+    Page<EventSummaryDto> findAllSummaries(String name, Pageable pageable, EventCountMode countMode);
+    CursorPageDto<EventResponseDTO> findAllByCursor(String name, String after, String sortBy, int size, EventView view);
     Event save(EventRequestDTO eventRequestDTO);
+    List<Long> saveAll(List<EventRequestDTO> eventRequestDTOs);
     Event update(Long id, EventRequestDTO eventRequestDTO);
     Event findById(Long id);
+    EventResponseDTO findResponseById(Long id, EventView view);
     void deleteById(Long id);
     List<Event> getAllEventsAndTheirDetailsProblematic();
     List<Event> getAllEventsAndTheirDetailsOptimizedWithJoinFetch();
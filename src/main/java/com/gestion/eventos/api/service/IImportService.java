@@ -0,0 +1,11 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.dto.ImportJobStatusDto;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface IImportService {
+
+    ImportJobStatusDto startImport(ImportType type, MultipartFile file);
+    ImportJobStatusDto getStatus(String jobId);
+
+}
@@ -4,12 +4,14 @@ import com.gestion.eventos.api.domain.Speaker;
 import com.gestion.eventos.api.dto.SpeakerRequestDto;
 
 import java.util.List;
+import java.util.Set;
 
 public interface ISpeakerService {
 
     List<Speaker> findAll();
     Speaker save(SpeakerRequestDto speakerRequestDto);
     Speaker findById(Long id);
+    Set<Speaker> findAllByIds(Set<Long> ids);
     Speaker update(Long id, SpeakerRequestDto speakerRequestDto);
     void deleteById(Long id);
 
@@ -0,0 +1,98 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.dto.ImportJobStatusDto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado de una importación en curso. Lo escribe el hilo de la importación y lo leen las consultas
+ * de estado, por eso los contadores son atómicos y el resto de campos volátiles.
+ */
+public class ImportJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private static final int MAX_ERRORS = 100;
+
+    private final String id = UUID.randomUUID().toString();
+    private final ImportType type;
+    private final AtomicLong rowsProcessed = new AtomicLong();
+    private final AtomicLong rowsImported = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    public ImportJob(ImportType type) {
+        this.type = type;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ImportType getType() {
+        return type;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = Status.RUNNING;
+    }
+
+    void finish(Status finalStatus) {
+        finishedAt = Instant.now();
+        status = finalStatus;
+    }
+
+    void imported(long rows) {
+        rowsProcessed.addAndGet(rows);
+        rowsImported.addAndGet(rows);
+    }
+
+    void rejected(long line, String reason) {
+        rowsProcessed.incrementAndGet();
+        rowsRejected.incrementAndGet();
+        addError("Línea " + line + ": " + reason);
+    }
+
+    void rejectedBlock(long rows, String reason) {
+        rowsProcessed.addAndGet(rows);
+        rowsRejected.addAndGet(rows);
+        addError(reason);
+    }
+
+    void addError(String error) {
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+    }
+
+    public ImportJobStatusDto toDto() {
+        Instant start = startedAt;
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long processed = rowsProcessed.get();
+        double elapsedSeconds = start != null ? Duration.between(start, end).toMillis() / 1000.0 : 0;
+        double rowsPerSecond = elapsedSeconds > 0 ? processed / elapsedSeconds : 0;
+
+        List<String> errorsCopy;
+        synchronized (errors) {
+            errorsCopy = List.copyOf(errors);
+        }
+        return new ImportJobStatusDto(id, type.name(), status.name(), processed, rowsImported.get(),
+                rowsRejected.get(), Math.round(rowsPerSecond * 10) / 10.0, start, finishedAt, errorsCopy);
+    }
+}
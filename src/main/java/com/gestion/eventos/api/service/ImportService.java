@@ -0,0 +1,389 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.domain.Category;
+import com.gestion.eventos.api.domain.Event;
+import com.gestion.eventos.api.domain.Speaker;
+import com.gestion.eventos.api.dto.ImportJobStatusDto;
+import com.gestion.eventos.api.exception.BadRequestException;
+import com.gestion.eventos.api.exception.ResourceNotFoundException;
+import com.gestion.eventos.api.exception.ServiceUnavailableException;
+import com.gestion.eventos.api.repository.CategoryRepository;
+import com.gestion.eventos.api.repository.EventRepository;
+import com.gestion.eventos.api.repository.SpeakerRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importación CSV en segundo plano. La subida se vuelca a un fichero temporal y la petición responde
+ * enseguida; un pool acotado lee el fichero registro a registro y escribe en bloques transaccionales
+ * (lotes JDBC + flush/clear por bloque). Categorías y oradores se resuelven una vez por nombre/email
+ * y se recuerdan durante toda la importación.
+ */
+@Service
+public class ImportService implements IImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportService.class);
+
+    private final CategoryRepository categoryRepository;
+    private final SpeakerRepository speakerRepository;
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EventCountService eventCountService;
+    private final ResourceTagService resourceTagService;
+
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final int chunkSize;
+    private final Duration jobRetention;
+
+    private record CsvRecord(long line, List<String> fields) {
+    }
+
+    private record Rejection(long line, String reason) {
+    }
+
+    private record ChunkResult(int imported, List<Rejection> rejections, Map<String, Long> newSpeakerIds) {
+    }
+
+    public ImportService(CategoryRepository categoryRepository,
+                         SpeakerRepository speakerRepository,
+                         EventRepository eventRepository,
+                         EntityManager entityManager,
+                         PlatformTransactionManager transactionManager,
+                         EventCountService eventCountService,
+                         ResourceTagService resourceTagService,
+                         @Value("${imports.chunk-size:500}") int chunkSize,
+                         @Value("${imports.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                         @Value("${imports.queue-capacity:10}") int queueCapacity,
+                         @Value("${imports.job-retention:1h}") Duration jobRetention) {
+        this.categoryRepository = categoryRepository;
+        this.speakerRepository = speakerRepository;
+        this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventCountService = eventCountService;
+        this.resourceTagService = resourceTagService;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.jobRetention = jobRetention;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "csv-import-" + threadNumber.incrementAndGet()));
+    }
+
+    @Override
+    public ImportJobStatusDto startImport(ImportType type, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("El fichero CSV está vacío.");
+        }
+        purgeFinishedJobs();
+
+        // La parte multipart se borra al terminar la petición: se mueve a un temporal propio
+        Path spool;
+        try {
+            spool = Files.createTempFile("import-" + type.name().toLowerCase(Locale.ROOT) + "-", ".csv");
+            file.transferTo(spool);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo guardar el fichero de importación.", e);
+        }
+
+        ImportJob job = new ImportJob(type);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, spool));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            deleteQuietly(spool);
+            throw new ServiceUnavailableException("Hay demasiadas importaciones en curso. Inténtalo más tarde.", 30);
+        }
+
+        logger.info("Importación {} de {} encolada ({} bytes).", job.getId(), type, file.getSize());
+        return job.toDto();
+    }
+
+    @Override
+    public ImportJobStatusDto getStatus(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Importación no encontrada con el id: " + jobId);
+        }
+        return job.toDto();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ImportJob job, Path spool) {
+        job.start();
+        logger.info("Iniciando importación {} de {}.", job.getId(), job.getType());
+
+        try (CsvRowReader csv = new CsvRowReader(Files.newBufferedReader(spool, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readHeader(csv.next(), job.getType());
+            ImportLookups lookups = new ImportLookups();
+            List<CsvRecord> chunk = new ArrayList<>(chunkSize);
+
+            List<String> fields;
+            while ((fields = csv.next()) != null) {
+                chunk.add(new CsvRecord(csv.getRecordLine(), fields));
+                if (chunk.size() == chunkSize) {
+                    writeChunk(job, columns, chunk, lookups);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(job, columns, chunk, lookups);
+            }
+
+            job.finish(ImportJob.Status.COMPLETED);
+            ImportJobStatusDto status = job.toDto();
+            logger.info("Importación {} completada: {} filas importadas, {} rechazadas ({} filas/s).",
+                    job.getId(), status.getRowsImported(), status.getRowsRejected(), status.getRowsPerSecond());
+        } catch (Exception e) {
+            logger.error("Importación {} interrumpida.", job.getId(), e);
+            job.addError("Importación interrumpida: " + e.getMessage());
+            job.finish(ImportJob.Status.FAILED);
+        } finally {
+            deleteQuietly(spool);
+        }
+    }
+
+    private Map<String, Integer> readHeader(List<String> header, ImportType type) {
+        if (header == null) {
+            throw new BadRequestException("El fichero no tiene cabecera.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // Algunos editores añaden un BOM al principio del fichero
+            String column = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.put(column, i);
+        }
+        List<String> missing = Arrays.stream(type.getRequiredColumns())
+                .map(column -> column.toLowerCase(Locale.ROOT))
+                .filter(column -> !columns.containsKey(column))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new BadRequestException("Faltan columnas obligatorias en la cabecera: " + missing);
+        }
+        return columns;
+    }
+
+    /**
+     * Escribe un bloque en su propia transacción. Si falla, se revierte el bloque completo y sus filas
+     * cuentan como rechazadas; la importación sigue con el siguiente bloque.
+     */
+    private void writeChunk(ImportJob job, Map<String, Integer> columns, List<CsvRecord> records, ImportLookups lookups) {
+        try {
+            ChunkResult result = transactionTemplate.execute(status -> {
+                ChunkResult chunkResult = job.getType() == ImportType.SPEAKERS
+                        ? writeSpeakers(columns, records, lookups)
+                        : writeEvents(columns, records, lookups);
+                entityManager.flush();
+                entityManager.clear();
+                return chunkResult;
+            });
+
+            job.imported(result.imported());
+            result.rejections().forEach(rejection -> job.rejected(rejection.line(), rejection.reason()));
+            // Solo tras el commit: un bloque revertido no debe dejar emails "existentes" en la caché
+            result.newSpeakerIds().forEach((email, id) -> lookups.speakerIdsByEmail.put(email, Optional.of(id)));
+        } catch (RuntimeException e) {
+            logger.warn("Bloque de la importación {} revertido (líneas {}-{}).",
+                    job.getId(), records.getFirst().line(), records.getLast().line(), e);
+            job.rejectedBlock(records.size(), "Líneas " + records.getFirst().line() + "-" + records.getLast().line()
+                    + " revertidas: " + e.getMessage());
+        }
+    }
+
+    private ChunkResult writeSpeakers(Map<String, Integer> columns, List<CsvRecord> records, ImportLookups lookups) {
+        // Primero todas las consultas: si se intercalan con los persist, Hibernate vacía el lote en cada una
+        records.forEach(record -> {
+            String email = value(record, columns, "email");
+            if (email != null) {
+                lookups.speakerId(email);
+            }
+        });
+
+        List<Rejection> rejections = new ArrayList<>();
+        Map<String, Long> newSpeakerIds = new HashMap<>();
+
+        for (CsvRecord record : records) {
+            String name = value(record, columns, "name");
+            String email = value(record, columns, "email");
+
+            if (name == null || email == null) {
+                rejections.add(new Rejection(record.line(), "name y email son obligatorios."));
+            } else if (lookups.speakerId(email).isPresent() || newSpeakerIds.containsKey(email)) {
+                rejections.add(new Rejection(record.line(), "Ya existe un orador con el email " + email + "."));
+            } else {
+                Speaker speaker = new Speaker(null, name, email, value(record, columns, "bio"), new HashSet<>());
+                speakerRepository.save(speaker);
+                newSpeakerIds.put(email, speaker.getId());
+            }
+        }
+
+        if (!newSpeakerIds.isEmpty()) {
+            resourceTagService.speakersChanged();
+        }
+        return new ChunkResult(newSpeakerIds.size(), rejections, newSpeakerIds);
+    }
+
+    private ChunkResult writeEvents(Map<String, Integer> columns, List<CsvRecord> records, ImportLookups lookups) {
+        records.forEach(record -> {
+            String category = value(record, columns, "category");
+            if (category != null) {
+                lookups.categoryId(category);
+            }
+            speakerEmails(record, columns).forEach(lookups::speakerId);
+        });
+        // Oradores del bloque cargados de una vez: getReferenceById daría proxies que el hashCode
+        // de Speaker (@Data) inicializaría uno a uno al añadirlos al Set del evento
+        Set<Long> speakerIds = records.stream()
+                .flatMap(record -> speakerEmails(record, columns).stream())
+                .map(lookups::speakerId)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+        Map<Long, Speaker> speakersById = speakerRepository.findAllById(speakerIds).stream()
+                .collect(Collectors.toMap(Speaker::getId, Function.identity()));
+
+        List<Rejection> rejections = new ArrayList<>();
+        int imported = 0;
+
+        for (CsvRecord record : records) {
+            String name = value(record, columns, "name");
+            String location = value(record, columns, "location");
+            String rawDate = value(record, columns, "date");
+            String categoryName = value(record, columns, "category");
+
+            if (name == null || location == null || rawDate == null || categoryName == null) {
+                rejections.add(new Rejection(record.line(), "name, date, location y category son obligatorios."));
+                continue;
+            }
+
+            LocalDate date;
+            try {
+                date = LocalDate.parse(rawDate);
+            } catch (DateTimeParseException e) {
+                rejections.add(new Rejection(record.line(), "Fecha inválida (se espera yyyy-MM-dd): " + rawDate));
+                continue;
+            }
+
+            Optional<Long> categoryId = lookups.categoryId(categoryName);
+            if (categoryId.isEmpty()) {
+                rejections.add(new Rejection(record.line(), "Categoría no encontrada: " + categoryName));
+                continue;
+            }
+
+            Set<String> emails = speakerEmails(record, columns);
+            List<String> unknownEmails = emails.stream()
+                    .filter(email -> lookups.speakerId(email).filter(speakersById::containsKey).isEmpty())
+                    .toList();
+            if (!unknownEmails.isEmpty()) {
+                rejections.add(new Rejection(record.line(), "Oradores no encontrados: " + unknownEmails));
+                continue;
+            }
+
+            Event event = new Event();
+            event.setName(name);
+            event.setDate(date);
+            event.setLocation(location);
+            event.setCategory(categoryRepository.getReferenceById(categoryId.get()));
+            emails.forEach(email -> event.addSpeaker(speakersById.get(lookups.speakerId(email).get())));
+            eventRepository.save(event);
+            imported++;
+        }
+
+        if (imported > 0) {
+            eventCountService.invalidate();
+            resourceTagService.eventsChanged();
+        }
+        return new ChunkResult(imported, rejections, Map.of());
+    }
+
+    private static String value(CsvRecord record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.fields().size()) {
+            return null;
+        }
+        String value = record.fields().get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Set<String> speakerEmails(CsvRecord record, Map<String, Integer> columns) {
+        String raw = value(record, columns, "speakeremails");
+        if (raw == null) {
+            return Set.of();
+        }
+        return Arrays.stream(raw.split(";"))
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private void purgeFinishedJobs() {
+        Instant limit = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(limit));
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("No se pudo borrar el fichero temporal {}.", path, e);
+        }
+    }
+
+    /** Resultados de findByName / findByEmail de una importación, incluidos los que no existen. */
+    private class ImportLookups {
+
+        private final Map<String, Optional<Long>> categoryIdsByName = new HashMap<>();
+        private final Map<String, Optional<Long>> speakerIdsByEmail = new HashMap<>();
+
+        Optional<Long> categoryId(String name) {
+            return categoryIdsByName.computeIfAbsent(name,
+                    key -> categoryRepository.findByName(key).map(Category::getId));
+        }
+
+        Optional<Long> speakerId(String email) {
+            return speakerIdsByEmail.computeIfAbsent(email,
+                    key -> speakerRepository.findByEmail(key).map(Speaker::getId));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.gestion.eventos.api.service;
+
+/**
+ * Tipos de importación CSV y sus columnas obligatorias (la cabecera puede traerlas en cualquier orden).
+ */
+public enum ImportType {
+
+    /** name,email,bio */
+    SPEAKERS("name", "email"),
+    /** name,date,location,category,speakerEmails (emails separados por ';') */
+    EVENTS("name", "date", "location", "category");
+
+    private final String[] requiredColumns;
+
+    ImportType(String... requiredColumns) {
+        this.requiredColumns = requiredColumns;
+    }
+
+    public String[] getRequiredColumns() {
+        return requiredColumns;
+    }
+}
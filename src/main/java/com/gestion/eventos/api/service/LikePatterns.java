@@ -0,0 +1,21 @@
+package com.gestion.eventos.api.service;
+
+import java.util.Locale;
+
+/**
+ * Patrones LIKE para búsquedas "contiene" sin distinguir mayúsculas.
+ * Las consultas que los usan deben declarar {@code ESCAPE '\'} y comparar contra {@code LOWER(columna)}.
+ */
+public final class LikePatterns {
+
+    private LikePatterns() {
+    }
+
+    public static String containsIgnoreCase(String value) {
+        String escaped = value.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
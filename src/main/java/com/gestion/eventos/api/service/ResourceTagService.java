@@ -0,0 +1,137 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.domain.ResourceGeneration;
+import com.gestion.eventos.api.exception.ResourceNotFoundException;
+import com.gestion.eventos.api.repository.CategoryRepository;
+import com.gestion.eventos.api.repository.EventRepository;
+import com.gestion.eventos.api.repository.ResourceGenerationRepository;
+import com.gestion.eventos.api.repository.SpeakerRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Calcula ETags fuertes para eventos, oradores y categorías.
+ * <p>
+ * Un recurso individual usa su columna {@code version}, leída sin cargar la entidad. Los listados usan
+ * un contador de cambios por colección guardado en {@code resource_generations}, compartido por todas
+ * las instancias. El contador se incrementa dentro de la transacción de la escritura (un UPDATE más en
+ * la misma conexión), así que cambia en el mismo commit que los datos y no cambia si hay rollback.
+ * <p>
+ * Las inscripciones no tocan esa fila en su transacción: solo marcan el listado como modificado y una
+ * tarea lo incrementa como mucho una vez por intervalo. El ETag de un evento refleja la inscripción al
+ * instante; el de los listados puede servir un {@code attendeeCount} antiguo durante ese intervalo.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceTagService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceTagService.class);
+
+    private static final String EVENTS = "events";
+    private static final String SPEAKERS = "speakers";
+    private static final String CATEGORIES = "categories";
+    // Un evento incluye nombre de categoría y datos de sus oradores: si cambian, cambia su representación
+    private static final String REFERENCES = "references";
+
+    private final EventRepository eventRepository;
+    private final SpeakerRepository speakerRepository;
+    private final CategoryRepository categoryRepository;
+    private final ResourceGenerationRepository generationRepository;
+
+    private final AtomicBoolean attendanceChanged = new AtomicBoolean();
+
+    @PostConstruct
+    void createGenerations() {
+        for (String name : List.of(EVENTS, SPEAKERS, CATEGORIES, REFERENCES)) {
+            if (generationRepository.existsById(name)) {
+                continue;
+            }
+            try {
+                generationRepository.save(new ResourceGeneration(name, 0));
+            } catch (DataIntegrityViolationException e) {
+                logger.debug("Generación {} creada por otra instancia.", name);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public String eventTag(Long id) {
+        String state = eventRepository.findTagStateById(id).orElseThrow(
+                () -> new ResourceNotFoundException("Evento no encontrado con id: " + id));
+        return tag("event", id + "-" + state + "-" + generation(REFERENCES));
+    }
+
+    @Transactional(readOnly = true)
+    public String speakerTag(Long id) {
+        long version = speakerRepository.findVersionById(id).orElseThrow(
+                () -> new ResourceNotFoundException("Orador no encontrado con el id: " + id));
+        return tag("speaker", id + "-" + version);
+    }
+
+    @Transactional(readOnly = true)
+    public String categoryTag(Long id) {
+        long version = categoryRepository.findVersionById(id).orElseThrow(
+                () -> new ResourceNotFoundException("Categoria no encontrada con el id: " + id));
+        return tag("category", id + "-" + version);
+    }
+
+    public String eventListTag() {
+        return tag(EVENTS, Long.toString(generation(EVENTS)));
+    }
+
+    public String speakerListTag() {
+        return tag(SPEAKERS, Long.toString(generation(SPEAKERS)));
+    }
+
+    public String categoryListTag() {
+        return tag(CATEGORIES, Long.toString(generation(CATEGORIES)));
+    }
+
+    public void eventsChanged() {
+        generationRepository.increment(List.of(EVENTS));
+    }
+
+    public void speakersChanged() {
+        generationRepository.increment(List.of(SPEAKERS, REFERENCES, EVENTS));
+    }
+
+    public void categoriesChanged() {
+        generationRepository.increment(List.of(CATEGORIES, REFERENCES, EVENTS));
+    }
+
+    /** Marca el listado de eventos como modificado por una inscripción, cuando la transacción hace commit. */
+    public void attendanceChanged() {
+        TransactionCallbacks.afterCommit(() -> attendanceChanged.set(true));
+    }
+
+    @Scheduled(fixedDelayString = "${events.etag.attendance-flush-interval:PT1S}")
+    public void flushAttendanceChanges() {
+        if (!attendanceChanged.getAndSet(false)) {
+            return;
+        }
+        try {
+            generationRepository.increment(List.of(EVENTS));
+        } catch (DataAccessException e) {
+            attendanceChanged.set(true);
+            logger.warn("No se pudo actualizar la generación de eventos tras las inscripciones.", e);
+        }
+    }
+
+    private long generation(String name) {
+        return generationRepository.findGenerationByName(name).orElse(0L);
+    }
+
+    private String tag(String kind, String state) {
+        return "\"" + kind + "-" + state + "\"";
+    }
+}
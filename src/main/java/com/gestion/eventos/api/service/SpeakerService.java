@@ -9,7 +9,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +20,8 @@ public class SpeakerService implements ISpeakerService {
 
     private final SpeakerRepository speakerRepository;
     private final SpeakerMapper speakerMapper;
+    private final ResourceTagService resourceTagService;
+    private final EventResponseCache eventResponseCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -28,7 +33,9 @@ public class SpeakerService implements ISpeakerService {
     @Transactional
     public Speaker save(SpeakerRequestDto speakerRequestDto) {
         Speaker speaker = speakerMapper.toEntity(speakerRequestDto);
-        return speakerRepository.save(speaker);
+        Speaker savedSpeaker = speakerRepository.save(speaker);
+        resourceTagService.speakersChanged();
+        return savedSpeaker;
     }
 
     @Override
@@ -39,6 +46,30 @@ public class SpeakerService implements ISpeakerService {
         );
     }
 
+    /**
+     * Resuelve todos los oradores con una sola consulta. Si falta alguno se informan todos los ids
+     * inexistentes en la misma excepción.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Speaker> findAllByIds(Set<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        List<Speaker> speakers = speakerRepository.findAllById(ids);
+
+        if (speakers.size() != ids.size()) {
+            Set<Long> foundIds = speakers.stream().map(Speaker::getId).collect(Collectors.toSet());
+            List<Long> missingIds = ids.stream()
+                    .filter(id -> !foundIds.contains(id))
+                    .sorted()
+                    .toList();
+            throw new ResourceNotFoundException("Oradores no encontrados con los ids: " + missingIds);
+        }
+        return new HashSet<>(speakers);
+    }
+
     @Override
     @Transactional
     public Speaker update(Long id, SpeakerRequestDto speakerRequestDto) {
@@ -49,7 +80,10 @@ public class SpeakerService implements ISpeakerService {
 
         speakerMapper.updateSpeakerFromDto(speakerRequestDto, existingSpeaker);
 
-        return speakerRepository.save(existingSpeaker);
+        Speaker updatedSpeaker = speakerRepository.save(existingSpeaker);
+        resourceTagService.speakersChanged();
+        eventResponseCache.evictBySpeaker(id);
+        return updatedSpeaker;
     }
 
     @Override
@@ -59,5 +93,7 @@ public class SpeakerService implements ISpeakerService {
             throw new ResourceNotFoundException("Orador no encontrado con el id: " + id);
         }
         speakerRepository.deleteById(id);
+        resourceTagService.speakersChanged();
+        eventResponseCache.evictBySpeaker(id);
     }
 }
@@ -0,0 +1,169 @@
+package com.gestion.eventos.api.benchmark;
+
+import com.gestion.eventos.api.repository.EventRepository;
+import com.gestion.eventos.api.support.EventFixtures;
+import com.gestion.eventos.api.support.JdbcCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Compara las estrategias de carga de /problematic, /optimized-join-fetch y /optimized/all-details
+ * midiendo sentencias SQL, filas leídas, latencia y bytes asignados por llamada.
+ * Se ejecuta con {@code ./mvnw test -Pbenchmark}; el tamaño se ajusta con -Dbench.events, etc.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(JdbcCounter.Config.class)
+class FetchStrategyBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(FetchStrategyBenchmarkTest.class);
+
+    private static final int EVENTS = Integer.getInteger("bench.events", 100);
+    private static final int SPEAKERS_PER_EVENT = Integer.getInteger("bench.speakersPerEvent", 3);
+    private static final int ATTENDEES_PER_EVENT = Integer.getInteger("bench.attendeesPerEvent", 10);
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 5);
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 30);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventFixtures eventFixtures;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    record Result(String strategy, double statements, double rows, double entityLoads,
+                  double collectionFetches, double p50Ms, double p90Ms, double p99Ms, double maxMs,
+                  double allocatedKb) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        if (eventRepository.count() == 0) {
+            eventFixtures.events("Benchmark", EVENTS)
+                    .speakersPerEvent(SPEAKERS_PER_EVENT)
+                    .attendeesPerEvent(ATTENDEES_PER_EVENT)
+                    .seed();
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark de estrategias de carga de eventos con detalles")
+    @WithMockUser(username = "bench", roles = "USER")
+    void compareFetchStrategies() throws Exception {
+
+        List<Result> results = List.of(
+                run("problematic", "/api/v1/events/problematic"),
+                run("optimized-join-fetch", "/api/v1/events/optimized-join-fetch"),
+                run("optimized/all-details", "/api/v1/events/optimized/all-details")
+        );
+
+        report(results);
+
+        Result problematic = results.get(0);
+        Result allDetails = results.get(2);
+        assertTrue(allDetails.statements() < problematic.statements(),
+                "optimized/all-details debería ejecutar menos sentencias que problematic");
+    }
+
+    private Result run(String strategy, String path) throws Exception {
+
+        for (int i = 0; i < WARMUP; i++) {
+            mockMvc.perform(get(path)).andExpect(status().isOk());
+        }
+
+        long[] latencies = new long[ITERATIONS];
+        long statements = 0, rows = 0, entityLoads = 0, collectionFetches = 0, allocated = 0;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            JdbcCounter.reset();
+            statistics.clear();
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+
+            mockMvc.perform(get(path)).andExpect(status().isOk());
+
+            latencies[i] = System.nanoTime() - start;
+            allocated += allocatedBytes() - bytesBefore;
+            statements += JdbcCounter.statements();
+            rows += JdbcCounter.rows();
+            entityLoads += statistics.getEntityLoadCount();
+            collectionFetches += statistics.getCollectionFetchCount();
+        }
+
+        Arrays.sort(latencies);
+        return new Result(strategy,
+                (double) statements / ITERATIONS,
+                (double) rows / ITERATIONS,
+                (double) entityLoads / ITERATIONS,
+                (double) collectionFetches / ITERATIONS,
+                percentileMs(latencies, 0.50),
+                percentileMs(latencies, 0.90),
+                percentileMs(latencies, 0.99),
+                latencies[latencies.length - 1] / 1_000_000.0,
+                (double) allocated / ITERATIONS / 1024);
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    private void report(List<Result> results) throws IOException {
+        StringBuilder report = new StringBuilder()
+                .append(String.format("Eventos=%d, oradores/evento=%d, asistentes/evento=%d, iteraciones=%d%n",
+                        EVENTS, SPEAKERS_PER_EVENT, ATTENDEES_PER_EVENT, ITERATIONS))
+                .append(String.format("%-24s %10s %10s %10s %10s %9s %9s %9s %9s %12s%n",
+                        "estrategia", "sql/call", "rows/call", "entities", "colls",
+                        "p50 ms", "p90 ms", "p99 ms", "max ms", "alloc KB"));
+
+        for (Result r : results) {
+            report.append(String.format("%-24s %10.1f %10.1f %10.1f %10.1f %9.2f %9.2f %9.2f %9.2f %12.1f%n",
+                    r.strategy(), r.statements(), r.rows(), r.entityLoads(), r.collectionFetches(),
+                    r.p50Ms(), r.p90Ms(), r.p99Ms(), r.maxMs(), r.allocatedKb()));
+        }
+
+        logger.warn("Resultados del benchmark de estrategias de carga:\n{}", report);
+
+        Path output = Path.of("target", "benchmark", "fetch-strategies.txt");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report);
+    }
+}
@@ -0,0 +1,149 @@
+package com.gestion.eventos.api.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mide el coste de log por petición en el hilo que atiende la petición: el mismo conjunto de llamadas
+ * que hace un listado de eventos (una INFO y varias DEBUG, una con la lista de oradores unida) con
+ * appender síncrono a fichero y DEBUG activo (configuración anterior), con appender asíncrono y DEBUG
+ * activo, y con appender asíncrono a nivel INFO (configuración por defecto actual).
+ * <p>
+ * El fichero usa el mismo encoder que logback-spring.xml ({@link StructuredLogEncoder}, JSON en formato
+ * {@code logstash}) y la misma cola asíncrona, así que el coste medido es el de producción.
+ * Se ejecuta con {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class LoggingOverheadBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingOverheadBenchmarkTest.class);
+
+    private static final String STRUCTURED_FORMAT = System.getProperty("bench.logging.format", "logstash");
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 20_000);
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 100_000);
+    private static final List<String> SPEAKERS = IntStream.range(0, 20)
+            .mapToObj(i -> "Orador " + i)
+            .toList();
+
+    private record Result(String scenario, double nanosPerRequest, double bytesPerRequest) {
+    }
+
+    @Test
+    @DisplayName("Coste de log por petición: síncrono, asíncrono y asíncrono con DEBUG desactivado")
+    void measureLoggingOverhead() throws IOException {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        // Fuera de Spring Boot nadie registra el Environment que StructuredLogEncoder busca en el contexto
+        if (context.getObject(Environment.class.getName()) == null) {
+            context.putObject(Environment.class.getName(), new StandardEnvironment());
+        }
+        Path directory = Path.of("target", "benchmark");
+        Files.createDirectories(directory);
+
+        List<Result> results = new ArrayList<>();
+        results.add(run(context, "sync-debug", Level.DEBUG, false, directory));
+        results.add(run(context, "async-debug", Level.DEBUG, true, directory));
+        results.add(run(context, "async-info", Level.INFO, true, directory));
+
+        StringBuilder report = new StringBuilder(String.format("%-14s %14s %14s%n", "escenario", "ns/petición", "bytes/petición"));
+        results.forEach(result -> report.append(String.format("%-14s %14.0f %14.0f%n",
+                result.scenario(), result.nanosPerRequest(), result.bytesPerRequest())));
+        logger.warn("Resultados del benchmark de coste de log:\n{}", report);
+        Files.writeString(directory.resolve("logging.txt"), report);
+
+        assertTrue(results.get(2).nanosPerRequest() < results.get(0).nanosPerRequest(),
+                "Con DEBUG desactivado y appender asíncrono el log debería costar menos que el síncrono con DEBUG");
+    }
+
+    private Result run(LoggerContext context, String scenario, Level level, boolean async, Path directory) {
+        // Como el appender FILE de logback-spring.xml
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.setFormat(STRUCTURED_FORMAT);
+        encoder.setCharset(StandardCharsets.UTF_8);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName(scenario + "-file");
+        file.setFile(directory.resolve("logging-" + scenario + ".ndjson").toString());
+        file.setAppend(false);
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setName(scenario + "-async");
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(1638);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.addAppender(file);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        ch.qos.logback.classic.Logger target = context.getLogger("benchmark.logging." + scenario);
+        target.setAdditive(false);
+        target.setLevel(level);
+        target.addAppender(appender);
+
+        try {
+            for (int i = 0; i < WARMUP; i++) {
+                logRequest(target, i);
+            }
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                logRequest(target, i);
+            }
+            long nanos = System.nanoTime() - start;
+            long bytes = allocatedBytes() - bytesBefore;
+            return new Result(scenario, nanos / (double) ITERATIONS, bytes / (double) ITERATIONS);
+        } finally {
+            target.detachAndStopAllAppenders();
+        }
+    }
+
+    // Las llamadas de un GET /api/v1/events, con los argumentos caros diferidos como en EventService
+    private static void logRequest(Logger target, int i) {
+        target.debug("Recibida solicitud GET /events con nombre '{}' y paginación {}.", null, i);
+        target.debug("Buscando todos los eventos sin filtro. En la página: {}.", 10);
+        target.atDebug()
+                .setMessage("Detalles de evento - ID: {}, Oradores: {}")
+                .addArgument(i)
+                .addArgument(() -> SPEAKERS.stream().collect(Collectors.joining(", ")))
+                .log();
+        target.info("Evento con ID {} actualizado en la base de datos.", i);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+}
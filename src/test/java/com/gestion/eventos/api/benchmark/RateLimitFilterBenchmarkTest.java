@@ -0,0 +1,113 @@
+package com.gestion.eventos.api.benchmark;
+
+import com.gestion.eventos.api.security.ratelimit.RateLimitFilter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mide el coste por petición de RateLimitFilter con varios hilos y muchos clientes distintos
+ * (sin cadena detrás). El comportamiento del límite se prueba en RateLimitFilterTest.
+ * Se ejecuta con {@code ./mvnw test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class RateLimitFilterBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilterBenchmarkTest.class);
+
+    private static final int THREADS = Integer.getInteger("bench.threads", 8);
+    private static final int CLIENTS = Integer.getInteger("bench.clients", 10_000);
+    private static final int WARMUP = Integer.getInteger("bench.warmup", 200_000);
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 200_000);
+    private static final long MAX_P50_NANOS = Long.getLong("bench.maxP50Nanos", 20_000);
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @Test
+    @DisplayName("Coste por petición del filtro de límite de peticiones")
+    void measureOverhead() throws Exception {
+        // Límites altos para medir el camino permitido, que es el habitual
+        RateLimitFilter filter = new RateLimitFilter(true, 1_000_000, 1_000_000, 1_000_000, 1_000_000,
+                1_000_000, 1_000_000, Duration.ofMinutes(10), 100_000);
+
+        run(filter, WARMUP);
+        long[] nanos = run(filter, ITERATIONS);
+        Arrays.sort(nanos);
+
+        String report = String.format("%-8s %10s %10s %10s %10s%n", "threads", "p50 ns", "p90 ns", "p99 ns", "max ns")
+                + String.format("%-8d %10d %10d %10d %10d%n", THREADS,
+                percentile(nanos, 0.50), percentile(nanos, 0.90), percentile(nanos, 0.99), nanos[nanos.length - 1]);
+        logger.warn("Resultados del benchmark del filtro de límite de peticiones:\n{}", report);
+
+        Path output = Path.of("target", "benchmark", "rate-limit.txt");
+        Files.createDirectories(output.getParent());
+        Files.writeString(output, report);
+
+        assertTrue(percentile(nanos, 0.50) < MAX_P50_NANOS,
+                "El filtro añade demasiada latencia: p50 " + percentile(nanos, 0.50) + " ns");
+    }
+
+    private long[] run(RateLimitFilter filter, int iterations) throws Exception {
+        long[] nanos = new long[iterations];
+        int perThread = iterations / THREADS;
+        AtomicLong failures = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            Future<?>[] futures = new Future<?>[THREADS];
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t * perThread;
+                futures[t] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        MockHttpServletRequest request = request("10.1." + ((offset + i) % CLIENTS));
+                        MockHttpServletResponse response = new MockHttpServletResponse();
+                        long begin = System.nanoTime();
+                        filter.doFilter(request, response, NO_OP_CHAIN);
+                        nanos[offset + i] = System.nanoTime() - begin;
+                        if (response.getStatus() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(0, failures.get(), "Ninguna petición debería rechazarse con límites altos");
+        return Arrays.copyOf(nanos, perThread * THREADS);
+    }
+
+    private static MockHttpServletRequest request(String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/events");
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
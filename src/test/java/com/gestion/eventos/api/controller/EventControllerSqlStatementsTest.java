@@ -0,0 +1,88 @@
+package com.gestion.eventos.api.controller;
+
+import com.gestion.eventos.api.monitoring.SqlStatsResponseAdvice;
+import com.gestion.eventos.api.support.EventFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fija cuántas sentencias SQL ejecutan los listados de eventos (cabeceras X-SQL-*): si alguien
+ * introduce un N+1 el número crece con los datos y el test falla.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class EventControllerSqlStatementsTest {
+
+    private static final int EVENTS_PER_BATCH = 15;
+    private static final int SPEAKERS_PER_EVENT = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EventFixtures eventFixtures;
+
+    @Test
+    @DisplayName("Los listados de eventos ejecutan un número fijo de sentencias SQL")
+    void shouldListEventsWithBoundedStatements() throws Exception {
+        seedBatch(0);
+
+        // Generación del ETag, ids de la página, eventos con categoría y oradores, y el COUNT
+        long page = statements("/api/v1/events?page=0&size=10&count=exact");
+        assertTrue(page <= 4, "GET /api/v1/events ejecutó " + page + " sentencias");
+
+        // Generación del ETag, ventana de ids y eventos con categoría y oradores
+        long cursor = statements("/api/v1/events?pagination=keyset&size=10");
+        assertTrue(cursor <= 3, "GET /api/v1/events por cursor ejecutó " + cursor + " sentencias");
+
+        // Generación del ETag, ids de la página, proyección de columnas, filas de oradores y el COUNT
+        long partial = statements("/api/v1/events?page=0&size=10&count=exact&fields=id,name&expand=speakers");
+        assertTrue(partial <= 5, "GET /api/v1/events con vista parcial ejecutó " + partial + " sentencias");
+
+        // Más datos no deben suponer más sentencias
+        seedBatch(1);
+        assertEquals(page, statements("/api/v1/events?page=0&size=10&count=exact"));
+        assertEquals(cursor, statements("/api/v1/events?pagination=keyset&size=10"));
+        assertEquals(partial, statements("/api/v1/events?page=0&size=10&count=exact&fields=id,name&expand=speakers"));
+    }
+
+    @Test
+    @DisplayName("Los listados de eventos no inicializan colecciones de forma perezosa")
+    void shouldNotLoadCollectionsLazily() throws Exception {
+        seedBatch(2);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/events?page=0&size=10&count=exact"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals("0", result.getResponse().getHeader(SqlStatsResponseAdvice.COLLECTION_LOADS_HEADER));
+    }
+
+    private long statements(String url) throws Exception {
+        MvcResult result = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn();
+        String header = result.getResponse().getHeader(SqlStatsResponseAdvice.STATEMENTS_HEADER);
+        assertTrue(header != null, "Falta la cabecera " + SqlStatsResponseAdvice.STATEMENTS_HEADER);
+        return Long.parseLong(header);
+    }
+
+    private void seedBatch(int batch) {
+        eventFixtures.events("Sentencias " + batch, EVENTS_PER_BATCH)
+                .speakersPerEvent(SPEAKERS_PER_EVENT)
+                .seed();
+    }
+}
@@ -9,10 +9,17 @@ import com.gestion.eventos.api.dto.EventResponseDTO;
 import com.gestion.eventos.api.dto.SpeakerResponseDto;
 import com.gestion.eventos.api.exception.ResourceNotFoundException;
 import com.gestion.eventos.api.mapper.EventMapper;
+import com.gestion.eventos.api.monitoring.SqlStatsFilter;
 import com.gestion.eventos.api.security.jwt.JwtAuthEntryPoint;
 import com.gestion.eventos.api.security.jwt.JwtAuthenticationFilter;
 import com.gestion.eventos.api.security.jwt.JwtGenerator;
+import com.gestion.eventos.api.security.ratelimit.RateLimitFilter;
+import com.gestion.eventos.api.service.EventCounterReconciler;
 import com.gestion.eventos.api.service.EventService;
+import com.gestion.eventos.api.service.EventView;
+import com.gestion.eventos.api.service.IAttendanceService;
+import com.gestion.eventos.api.service.IEventExportService;
+import com.gestion.eventos.api.service.ResourceTagService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -53,7 +60,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
         excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
                 JwtAuthenticationFilter.class,
                 JwtGenerator.class,
-                JwtAuthEntryPoint.class // Si JwtAuthEntryPoint también es un @Component y causa problemas
+                JwtAuthEntryPoint.class, // Si JwtAuthEntryPoint también es un @Component y causa problemas
+                RateLimitFilter.class,
+                SqlStatsFilter.class
         })
 )
 class EventControllerTest {
@@ -63,6 +72,7 @@ class EventControllerTest {
 
     private EventService eventService;
     private EventMapper eventMapper;
+    private ResourceTagService resourceTagService;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -83,14 +93,40 @@ class EventControllerTest {
         EventMapper eventMapper(){
             return mock(EventMapper.class);
         }
+
+        @Bean
+        @Primary
+        IEventExportService eventExportService(){
+            return mock(IEventExportService.class);
+        }
+
+        @Bean
+        @Primary
+        ResourceTagService resourceTagService(){
+            return mock(ResourceTagService.class);
+        }
+
+        @Bean
+        @Primary
+        IAttendanceService attendanceService(){
+            return mock(IAttendanceService.class);
+        }
+
+        @Bean
+        @Primary
+        EventCounterReconciler eventCounterReconciler(){
+            return mock(EventCounterReconciler.class);
+        }
     }
 
     @BeforeEach
-    void setUp(@Autowired EventService eventServiceMock, @Autowired EventMapper eventMapperMock){
+    void setUp(@Autowired EventService eventServiceMock, @Autowired EventMapper eventMapperMock,
+               @Autowired ResourceTagService resourceTagServiceMock){
         this.eventService = eventServiceMock;
         this.eventMapper = eventMapperMock;
+        this.resourceTagService = resourceTagServiceMock;
 
-        reset(eventService, eventMapper);
+        reset(eventService, eventMapper, resourceTagService);
 
         Category category = new Category(10L, "Tecnología", "Eventos tecnológicos");
         Speaker speaker1 = new Speaker(20L, "Juan Pérez", "juan.perez@example.com", "Experto en Spring Boot.", new HashSet<>());
@@ -130,9 +166,8 @@ class EventControllerTest {
     void shouldReturnEventById() throws Exception{
 
         //Preparación
-        when(eventService.findById(anyLong())).thenReturn(eventEntity);
-
-        when(eventMapper.toResponseDto(any(Event.class))).thenReturn(eventResponseDto);
+        when(resourceTagService.eventTag(1L)).thenReturn("\"event-test-1-0-0\"");
+        when(eventService.findResponseById(anyLong(), any())).thenReturn(eventResponseDto);
 
         //Ejecución
         mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events/{id}", 1L)
@@ -140,6 +175,7 @@ class EventControllerTest {
 
                 //Verificación
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"event-test-1-0-0\""))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.name").value("Conferencia Tech"))
@@ -158,16 +194,72 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.speakers[?(@.name == 'María García')].email").value("maria.garcia@example.com"))
                 .andExpect(jsonPath("$.speakers[?(@.name == 'María García')].bio").value("Arquitecta de software."));
 
-        verify(eventService, times(1)).findById(1L);
-        verify(eventMapper, times(1)).toResponseDto(eventEntity);
+        verify(eventService, times(1)).findResponseById(1L, null);
+        verify(eventMapper, never()).toResponseDto(any(Event.class)); // El mapeo lo hace (y cachea) el servicio
+
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/events/{id} - Debe retornar 304 sin cargar el evento cuando el ETag coincide")
+    @WithMockUser(username = "testUser", roles = "USER")
+    void shouldReturnNotModifiedWhenEtagMatches() throws Exception{
+        when(resourceTagService.eventTag(1L)).thenReturn("\"event-test-1-0-0\"");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events/{id}", 1L)
+                        .header("If-None-Match", "\"event-test-1-0-0\""))
+
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"event-test-1-0-0\""))
+                .andExpect(content().string(""));
+
+        verify(eventService, never()).findResponseById(anyLong(), any());
+        verify(eventMapper, never()).toResponseDto(any(Event.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/events/{id} - Debe devolver solo los campos y asociaciones pedidos")
+    @WithMockUser(username = "testUser", roles = "USER")
+    void shouldReturnOnlyRequestedFieldsAndExpansions() throws Exception{
+        when(resourceTagService.eventTag(1L)).thenReturn("\"event-test-1-0-0\"");
+        EventResponseDTO partial = new EventResponseDTO();
+        partial.setId(1L);
+        partial.setName("Conferencia de Spring Boot");
+        partial.setAttendeeCount(42);
+        when(eventService.findResponseById(anyLong(), any())).thenReturn(partial);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events/{id}", 1L)
+                        .param("fields", "name")
+                        .param("expand", "attendeeCount"))
+
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.name").value("Conferencia de Spring Boot"))
+                .andExpect(jsonPath("$.attendeeCount").value(42))
+                .andExpect(jsonPath("$.date").doesNotExist())
+                .andExpect(jsonPath("$.categoryName").doesNotExist())
+                .andExpect(jsonPath("$.speakers").doesNotExist());
+
+        verify(eventService, times(1)).findResponseById(1L,
+                new EventView(Set.of("id", "name", "attendeeCount"), false, false));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/events/{id} - Debe retornar 400 con una expansión no soportada")
+    @WithMockUser(username = "testUser", roles = "USER")
+    void shouldRejectUnsupportedExpansion() throws Exception{
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events/{id}", 1L)
+                        .param("expand", "attendedUsers"))
+
+                .andExpect(status().isBadRequest());
 
+        verify(eventService, never()).findResponseById(anyLong(), any());
     }
 
     @Test
     @DisplayName("GET /api/v1/events/{id} - Debe retornar 404 Not Found cuando el evento no existe")
     @WithMockUser(username = "testUser", roles = "USER")
     void shouldReturnNotFoundWhenEventDoesNotExist() throws Exception{
-        when(eventService.findById(anyLong())).thenThrow(
+        when(eventService.findResponseById(anyLong(), any())).thenThrow(
                 new ResourceNotFoundException("Evento no encontrado con id: 99")
         );
 
@@ -178,7 +270,7 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.status").value(404))
                 .andExpect(jsonPath("$.message").value("Evento no encontrado con id: 99"));
 
-        verify(eventService, times(1)).findById(99L);
+        verify(eventService, times(1)).findResponseById(99L, null);
         verify(eventMapper, never()).toResponseDto(any(Event.class));
     }
 
@@ -216,7 +308,7 @@ class EventControllerTest {
         Page<EventResponseDTO> eventResponseDtoPage = new PageImpl<>(eventResponseList,
                 pageableMock, eventResponseList.size());
 
-        when(eventService.findAll(eq("Spring"), any(Pageable.class))).thenReturn(eventResponseDtoPage);
+        when(eventService.findAll(eq("Spring"), any(Pageable.class), isNull(), isNull())).thenReturn(eventResponseDtoPage);
 
         //Ejecución
         mockMvc.perform(MockMvcRequestBuilders.get("/api/v1/events")
@@ -263,7 +355,7 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.last").value(true));
 
 
-        verify(eventService, times(1)).findAll(eq("Spring"), any(Pageable.class));
+        verify(eventService, times(1)).findAll(eq("Spring"), any(Pageable.class), isNull(), isNull());
         verify(eventService, never()).findById(anyLong());
     }
 
@@ -343,10 +435,35 @@ class EventControllerTest {
         verify(eventMapper, times(1)).toResponseDto(savedEventEntity); // Se verifica que el mapper fue llamado con el Event correcto
 
         // Verificaciones defensivas (que no se llamen otros métodos)
-        verify(eventService, never()).findAll(anyString(), any(Pageable.class));
+        verify(eventService, never()).findAll(anyString(), any(Pageable.class), any(), any());
         verify(eventService, never()).findById(anyLong());
     }
 
+    @Test
+    @DisplayName("POST /api/v1/events/bulk - Debe rechazar con 400 la lista si algún evento es inválido")
+    @WithMockUser(username = "adminUser", roles = "ADMIN")
+    void shouldRejectBulkCreationWhenAnEventIsInvalid() throws Exception {
+        EventRequestDTO validEvent = new EventRequestDTO();
+        validEvent.setName("Taller de Microservicios");
+        validEvent.setDate(LocalDate.of(2025, 3, 10));
+        validEvent.setLocation("Centro de Convenciones");
+        validEvent.setCategoryId(10L);
+
+        EventRequestDTO invalidEvent = new EventRequestDTO();
+        invalidEvent.setDate(LocalDate.of(2025, 3, 11));
+        invalidEvent.setLocation("Centro de Convenciones");
+        invalidEvent.setCategoryId(10L);
+
+        mockMvc.perform(post("/api/v1/events/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(validEvent, invalidEvent))))
+
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['[1].name']").value("El nombre del evento no puede estar vacío."));
+
+        verify(eventService, never()).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("PUT /api/v1/events/{id} - Debe actualizar un evento existente y retornar 200 OK")
     @WithMockUser(username = "adminUser", roles = "ADMIN")
@@ -419,7 +536,7 @@ class EventControllerTest {
 
         // Verificaciones defensivas (que no se llamen otros métodos)
         verify(eventService, never()).save(any(EventRequestDTO.class)); // No debería llamar a save al actualizar
-        verify(eventService, never()).findAll(anyString(), any(Pageable.class));
+        verify(eventService, never()).findAll(anyString(), any(Pageable.class), any(), any());
         verify(eventService, never()).findById(anyLong()); // El findById se hace internamente en eventService.update, pero no lo llamamos directamente aquí del controller
 
     }
@@ -0,0 +1,91 @@
+package com.gestion.eventos.api.controller;
+
+import com.gestion.eventos.api.support.EventFixtures;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Recorre GET /api/v1/events?pagination=keyset hasta el final siguiendo 'nextCursor'.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class EventCursorPaginationTest {
+
+    private static final String PREFIX = "Cursorprueba";
+    private static final int EVENTS = 7;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EventFixtures eventFixtures;
+
+    @Test
+    @DisplayName("Debe recorrer todos los eventos por cursor y terminar con hasNext=false")
+    void shouldWalkAllPagesUntilHasNextIsFalse() throws Exception {
+        // Nombres desordenados respecto al id para comprobar el orden por nombre
+        eventFixtures.events(PREFIX, EVENTS).names(i -> PREFIX + " " + (char) ('G' - i)).seed();
+
+        List<String> names = new ArrayList<>();
+        String after = null;
+        String body;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/v1/events")
+                    .param("pagination", "keyset")
+                    .param("name", PREFIX)
+                    .param("size", "3");
+            if (after != null) {
+                request.param("after", after);
+            }
+            body = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+            names.addAll(JsonPath.read(body, "$.content[*].name"));
+            after = JsonPath.read(body, "$.nextCursor");
+        } while (JsonPath.<Boolean>read(body, "$.hasNext"));
+
+        // Última página: 7 eventos de 3 en 3 dejan uno solo, sin cursor siguiente
+        assertEquals(1, JsonPath.<Integer>read(body, "$.size"));
+        assertNull(after);
+        assertEquals(EVENTS, names.size());
+        List<String> sorted = new ArrayList<>(names);
+        sorted.sort(null);
+        assertEquals(sorted, names);
+        assertEquals(EVENTS, names.stream().distinct().count(), "Eventos repetidos: " + names);
+    }
+
+    @Test
+    @DisplayName("Un cursor manipulado o mal formado devuelve 400")
+    void shouldRejectTamperedCursor() throws Exception {
+        String tampered = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("name|no-es-un-id|Evento".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/v1/events").param("pagination", "keyset").param("after", tampered))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Cursor inválido")));
+
+        mockMvc.perform(get("/api/v1/events").param("pagination", "keyset").param("after", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,128 @@
+package com.gestion.eventos.api.controller;
+
+import com.gestion.eventos.api.monitoring.SqlStatsResponseAdvice;
+import com.gestion.eventos.api.support.EventFixtures;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Vistas parciales ('fields' y 'expand') contra H2: solo se devuelven las columnas pedidas, sin
+ * hidratar entidades, en el orden de la página y con un número fijo de sentencias.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class EventPartialViewTest {
+
+    private static final String PREFIX = "Vistaparcial";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EventFixtures eventFixtures;
+
+    // El contexto (y la base H2) se comparte entre tests: se siembra una sola vez
+    private static Long firstEventId;
+
+    @BeforeEach
+    void seed() {
+        if (firstEventId != null) {
+            return;
+        }
+        firstEventId = eventFixtures.events(PREFIX, 3)
+                .names(i -> PREFIX + " " + (char) ('A' + i))
+                .speakersPerEvent(2)
+                .seed().get(0);
+    }
+
+    @Test
+    @DisplayName("Devuelve solo los campos pedidos, en el orden de la página y sin cargar entidades")
+    void shouldReturnRequestedFieldsInPageOrder() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/events")
+                        .param("name", PREFIX)
+                        .param("sort", "name,desc")
+                        .param("count", "exact")
+                        .param("fields", "NAME,location")
+                        .param("expand", "Category,speakers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[0].name").value(PREFIX + " C"))
+                .andExpect(jsonPath("$.content[1].name").value(PREFIX + " B"))
+                .andExpect(jsonPath("$.content[2].name").value(PREFIX + " A"))
+                .andExpect(jsonPath("$.content[0].id").exists())
+                .andExpect(jsonPath("$.content[0].location").value("Sala 2"))
+                .andExpect(jsonPath("$.content[0].categoryName").value(PREFIX))
+                .andExpect(jsonPath("$.content[0].speakers.length()").value(2))
+                .andExpect(jsonPath("$.content[0].date").doesNotExist())
+                .andExpect(jsonPath("$.content[0].capacity").doesNotExist())
+                .andExpect(jsonPath("$.content[0].attendeeCount").doesNotExist())
+                .andExpect(header().string(SqlStatsResponseAdvice.ENTITY_LOADS_HEADER, "0"))
+                .andReturn();
+
+        // Generación del ETag, ids de la página, proyección (con JOIN a categoría) y filas de oradores;
+        // la página no está llena, así que no hay COUNT
+        long statements = Long.parseLong(result.getResponse().getHeader(SqlStatsResponseAdvice.STATEMENTS_HEADER));
+        assertTrue(statements <= 4, "La vista parcial ejecutó " + statements + " sentencias");
+    }
+
+    @Test
+    @DisplayName("Sin 'expand' no se consulta ninguna asociación")
+    void shouldSkipAssociationsWithoutExpand() throws Exception {
+        mockMvc.perform(get("/api/v1/events/{id}", firstEventId).param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(PREFIX + " A"))
+                .andExpect(jsonPath("$.location").doesNotExist())
+                .andExpect(jsonPath("$.categoryName").doesNotExist())
+                .andExpect(jsonPath("$.speakers").doesNotExist())
+                .andExpect(header().string(SqlStatsResponseAdvice.ENTITY_LOADS_HEADER, "0"));
+    }
+
+    @Test
+    @DisplayName("'fields' y 'expand' no distinguen mayúsculas")
+    void shouldIgnoreCaseInFieldsAndExpand() throws Exception {
+        MvcResult lower = mockMvc.perform(get("/api/v1/events/{id}", firstEventId)
+                        .param("fields", "attendeecount,speakercount")
+                        .param("expand", "CATEGORY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attendeeCount").value(0))
+                .andExpect(jsonPath("$.speakerCount").value(2))
+                .andExpect(jsonPath("$.categoryName").value(PREFIX))
+                .andReturn();
+        MvcResult canonical = mockMvc.perform(get("/api/v1/events/{id}", firstEventId)
+                        .param("fields", "attendeeCount,speakerCount")
+                        .param("expand", "category"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertEquals(canonical.getResponse().getContentAsString(), lower.getResponse().getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Un campo o una expansión desconocidos devuelven 400")
+    void shouldRejectUnknownFieldsAndExpansions() throws Exception {
+        mockMvc.perform(get("/api/v1/events").param("fields", "name,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Campo no soportado: password")));
+
+        mockMvc.perform(get("/api/v1/events/{id}", firstEventId).param("expand", "owner"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Expansión no soportada: owner")));
+    }
+}
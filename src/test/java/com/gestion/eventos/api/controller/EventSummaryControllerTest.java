@@ -0,0 +1,65 @@
+package com.gestion.eventos.api.controller;
+
+import com.gestion.eventos.api.monitoring.SqlStatsResponseAdvice;
+import com.gestion.eventos.api.support.EventFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET /api/v1/events/summary: proyección ligera sin categoría, oradores ni contadores.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser
+class EventSummaryControllerTest {
+
+    private static final String PREFIX = "Resumenprueba";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EventFixtures eventFixtures;
+
+    @Test
+    @DisplayName("Debe devolver solo id, nombre, fecha y ubicación, filtrados y paginados, sin cargar entidades")
+    void shouldReturnLightweightSummaries() throws Exception {
+        eventFixtures.events(PREFIX, 4).speakersPerEvent(1).seed();
+
+        mockMvc.perform(get("/api/v1/events/summary")
+                        .param("name", PREFIX.toUpperCase())
+                        .param("sort", "date,desc")
+                        .param("size", "2")
+                        .param("count", "exact"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].name").value(PREFIX + " 3"))
+                .andExpect(jsonPath("$.content[0].date").value("2030-01-04"))
+                .andExpect(jsonPath("$.content[0].location").value("Sala 3"))
+                .andExpect(jsonPath("$.content[0].id").isNumber())
+                .andExpect(jsonPath("$.content[0].categoryName").doesNotExist())
+                .andExpect(jsonPath("$.content[0].speakers").doesNotExist())
+                .andExpect(jsonPath("$.content[0].attendeeCount").doesNotExist())
+                .andExpect(jsonPath("$..totalElements").value(4))
+                .andExpect(header().string(SqlStatsResponseAdvice.ENTITY_LOADS_HEADER, "0"))
+                .andExpect(header().string(SqlStatsResponseAdvice.COLLECTION_LOADS_HEADER, "0"));
+    }
+
+    @Test
+    @DisplayName("Un modo de conteo desconocido devuelve 400")
+    void shouldRejectUnknownCountMode() throws Exception {
+        mockMvc.perform(get("/api/v1/events/summary").param("count", "aproximado"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,123 @@
+package com.gestion.eventos.api.security.config;
+
+import com.gestion.eventos.api.exception.GlobalExceptionHandler;
+import com.gestion.eventos.api.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe cifrar y verificar contraseñas con el coste configurado y medir cada hash")
+    void shouldEncodeAndMatch() {
+        encoder = new BoundedPasswordEncoder(4, 1, 1, 2, meterRegistry);
+
+        String hash = encoder.encode("secreto");
+
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("secreto", hash));
+        assertFalse(encoder.matches("otra", hash));
+        assertEquals(3, meterRegistry.get("security.password.hash").timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe pedir rehash cuando el coste guardado es menor o mayor que el configurado")
+    void shouldUpgradeWhenCostDiffers() {
+        encoder = new BoundedPasswordEncoder(6, 1, 1, 2, meterRegistry);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secreto")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(8).encode("secreto")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secreto")));
+        assertTrue(encoder.upgradeEncoding("$2y$12$" + "a".repeat(53)));
+        assertFalse(encoder.upgradeEncoding("{noop}secreto"));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    @Test
+    @DisplayName("Con el hilo ocupado y la cola llena debe rechazar con 503 y Retry-After")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(4, 1, 1, 7, meterRegistry);
+        String hash = new BCryptPasswordEncoder(4).encode("secreto");
+        CountDownLatch release = new CountDownLatch(1);
+        CharSequence blocking = new BlockingPassword("secreto", release);
+
+        // El primero ocupa el único hilo y el segundo la única plaza de la cola
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches(blocking, hash));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches(blocking, hash));
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (encoder.getActiveCount() < 1 || encoder.getQueueDepth() < 1) {
+            assertTrue(Instant.now().isBefore(deadline), "El pool no llegó a llenarse");
+            Thread.sleep(5);
+        }
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> encoder.matches("secreto", hash));
+        assertEquals(7, ex.getRetryAfterSeconds());
+        assertEquals(1, encoder.getRejectedCount());
+        // El rechazado no llega a hacer hash
+        assertEquals(0, meterRegistry.get("security.password.hash").timer().count());
+
+        ResponseEntity<Object> response = new GlobalExceptionHandler().handlerServiceUnavailableException(ex);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("7", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+        release.countDown();
+        assertTrue(running.get());
+        assertTrue(queued.get());
+    }
+
+    // BCrypt lee la contraseña con toString(): bloquearlo ahí mantiene ocupado el hilo del pool
+    private record BlockingPassword(String value, CountDownLatch release) implements CharSequence {
+
+        @Override
+        public String toString() {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return value;
+        }
+
+        @Override
+        public int length() {
+            return value.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return value.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return value.subSequence(start, end);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.gestion.eventos.api.security.jwt;
+
+import com.gestion.eventos.api.security.service.CachedUserDetailsLookup;
+import com.gestion.eventos.api.security.service.TokenRevocationService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "test-secret-0123456789-0123456789-0123456789-0123456789";
+
+    @Mock
+    private CachedUserDetailsLookup userDetailsLookup;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private final JwtGenerator jwtGenerator = new JwtGenerator(SECRET, 3_600_000, 100, new SimpleMeterRegistry());
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(jwtGenerator, userDetailsLookup, tokenRevocationService);
+        ReflectionTestUtils.setField(filter, "authoritiesFromToken", true);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Con roles en el token debe autenticar sin consultar el usuario")
+    void shouldTakeAuthoritiesFromToken() throws Exception {
+        String token = jwtGenerator.generateToken(new UsernamePasswordAuthenticationToken(
+                "token-user", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        Authentication authentication = filter(token);
+
+        assertEquals("token-user", authentication.getName());
+        assertEquals(Set.of("ROLE_ADMIN"), AuthorityUtils.authorityListToSet(authentication.getAuthorities()));
+        verify(userDetailsLookup, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    @DisplayName("Un token sin el claim 'roles' debe cargar las autoridades del usuario")
+    void shouldLoadUserForLegacyTokenWithoutRoles() throws Exception {
+        String legacyToken = Jwts.builder()
+                .subject("legacy-user")
+                .id(UUID.randomUUID().toString())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        when(userDetailsLookup.loadUserByUsername("legacy-user"))
+                .thenReturn(new User("legacy-user", "", AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        Authentication authentication = filter(legacyToken);
+
+        assertEquals("legacy-user", authentication.getName());
+        assertEquals(Set.of("ROLE_USER"), AuthorityUtils.authorityListToSet(authentication.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("Con jwt.authorities-from-token=false mandan las autoridades de la base de datos")
+    void shouldIgnoreTokenRolesWhenDisabled() throws Exception {
+        ReflectionTestUtils.setField(filter, "authoritiesFromToken", false);
+        String token = jwtGenerator.generateToken(new UsernamePasswordAuthenticationToken(
+                "demoted-user", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        when(userDetailsLookup.loadUserByUsername("demoted-user"))
+                .thenReturn(new User("demoted-user", "", AuthorityUtils.createAuthorityList("ROLE_USER")));
+
+        Authentication authentication = filter(token);
+
+        assertEquals(Set.of("ROLE_USER"), AuthorityUtils.authorityListToSet(authentication.getAuthorities()));
+    }
+
+    @Test
+    @DisplayName("Un token revocado o inválido no autentica pero la petición sigue la cadena")
+    void shouldNotAuthenticateRevokedOrInvalidTokens() throws Exception {
+        String token = jwtGenerator.generateToken(new UsernamePasswordAuthenticationToken(
+                "revoked-user", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        when(tokenRevocationService.isRevoked(any())).thenReturn(true);
+
+        assertNull(filter(token));
+        assertNull(filter("no-es-un-jwt"));
+        verify(userDetailsLookup, never()).loadUserByUsername(any());
+    }
+
+    private Authentication filter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/events");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest(), "La petición no continuó por la cadena de filtros");
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,88 @@
+package com.gestion.eventos.api.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtGeneratorTest {
+
+    private static final String SECRET = "test-secret-0123456789-0123456789-0123456789-0123456789";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("La segunda verificación del mismo token sale de la caché sin comprobar la firma")
+    void shouldServeSecondVerificationFromCache() {
+        JwtGenerator jwtGenerator = new JwtGenerator(SECRET, 3_600_000, 100, meterRegistry);
+        String token = token(jwtGenerator);
+
+        Optional<Claims> first = jwtGenerator.verify(token);
+        Optional<Claims> second = jwtGenerator.verify(token);
+
+        assertTrue(first.isPresent());
+        assertEquals("jwt-user", second.orElseThrow().getSubject());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_USER")), jwtGenerator.getAuthorities(second.get()));
+        assertEquals(1, verifications("verified"));
+        assertEquals(1, verifications("cached"));
+    }
+
+    @Test
+    @DisplayName("Un token expirado no se sirve desde la caché")
+    void shouldNotServeExpiredTokenFromCache() throws InterruptedException {
+        // 'exp' tiene precisión de segundos: con 1,5 s el token sigue vigente al verificarlo por primera vez
+        JwtGenerator jwtGenerator = new JwtGenerator(SECRET, 1_500, 100, meterRegistry);
+        String token = token(jwtGenerator);
+
+        Claims claims = jwtGenerator.verify(token).orElseThrow();
+        long waitMillis = claims.getExpiration().getTime() - System.currentTimeMillis() + 50;
+        Thread.sleep(Math.max(0, waitMillis));
+
+        assertTrue(jwtGenerator.verify(token).isEmpty());
+        assertEquals(0, verifications("cached"));
+        assertEquals(1, verifications("invalid"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token con la firma alterada aunque el original esté en caché")
+    void shouldRejectTamperedSignature() {
+        JwtGenerator jwtGenerator = new JwtGenerator(SECRET, 3_600_000, 100, meterRegistry);
+        String token = token(jwtGenerator);
+        assertTrue(jwtGenerator.verify(token).isPresent());
+
+        int signatureStart = token.lastIndexOf('.') + 1;
+        int index = signatureStart + (token.length() - signatureStart) / 2;
+        char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, index) + replacement + token.substring(index + 1);
+
+        assertTrue(jwtGenerator.verify(tampered).isEmpty());
+        assertEquals(1, verifications("invalid"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un token firmado con otra clave")
+    void shouldRejectTokenSignedWithAnotherKey() {
+        JwtGenerator other = new JwtGenerator("other-secret-0123456789-0123456789-0123456789-0123456789",
+                3_600_000, 100, new SimpleMeterRegistry());
+        JwtGenerator jwtGenerator = new JwtGenerator(SECRET, 3_600_000, 100, meterRegistry);
+
+        assertTrue(jwtGenerator.verify(token(other)).isEmpty());
+    }
+
+    private static String token(JwtGenerator jwtGenerator) {
+        return jwtGenerator.generateToken(new UsernamePasswordAuthenticationToken(
+                "jwt-user", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+
+    private long verifications(String result) {
+        return meterRegistry.get("jwt.verification").tag("result", result).timer().count();
+    }
+}
@@ -0,0 +1,53 @@
+package com.gestion.eventos.api.security.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Recorre la cadena de seguridad completa: tras /logout el mismo token deja de autenticar.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LogoutRevocationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtGenerator jwtGenerator;
+
+    @Test
+    @DisplayName("Tras /logout el mismo token recibe 401")
+    void shouldRejectTokenAfterLogout() throws Exception {
+        String bearer = "Bearer " + jwtGenerator.generateToken(new UsernamePasswordAuthenticationToken(
+                "logout-user", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        String otherBearer = "Bearer " + jwtGenerator.generateToken(new UsernamePasswordAuthenticationToken(
+                "logout-user", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        mockMvc.perform(get("/api/v1/events").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/auth/logout").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/events").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isUnauthorized());
+        // Solo se revoca ese token (por su jti), no las demás sesiones del usuario
+        mockMvc.perform(get("/api/v1/events").header(HttpHeaders.AUTHORIZATION, otherBearer))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,109 @@
+package com.gestion.eventos.api.security.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitFilterTest {
+
+    private static final int BURST = 5;
+
+    // Ráfaga de 5 y una petición por minuto en cada grupo: la sexta seguida se rechaza
+    private final RateLimitFilter filter = new RateLimitFilter(true, 1, BURST, 1, BURST, 1, BURST,
+            Duration.ofMinutes(10), 100);
+    private final AtomicInteger passed = new AtomicInteger();
+    private final FilterChain chain = (request, response) -> passed.incrementAndGet();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Debe responder 429 con Retry-After y cuerpo JSON al superar la ráfaga")
+    void shouldRejectWithRetryAfterWhenBurstIsExceeded() throws Exception {
+        for (int i = 0; i < BURST; i++) {
+            assertEquals(200, call(request("GET", "/api/v1/events", "10.0.0.1")).getStatus());
+        }
+
+        MockHttpServletResponse rejected = call(request("GET", "/api/v1/events", "10.0.0.1"));
+
+        assertEquals(429, rejected.getStatus());
+        assertTrue(Long.parseLong(rejected.getHeader("Retry-After")) > 0);
+        assertTrue(rejected.getContentType().startsWith("application/json"));
+        assertTrue(rejected.getContentAsString().contains("\"status\":429"));
+        // Respuesta escrita directamente, sin dispatch a /error
+        assertNull(rejected.getErrorMessage());
+        assertEquals(BURST, passed.get());
+        assertEquals(1, filter.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("Debe llevar un bucket independiente por IP, por usuario y por grupo de rutas")
+    void shouldKeepSeparateBucketsPerClientAndRouteGroup() throws Exception {
+        for (int i = 0; i < BURST; i++) {
+            call(request("GET", "/api/v1/events", "10.0.0.1"));
+        }
+        assertEquals(429, call(request("GET", "/api/v1/events", "10.0.0.1")).getStatus());
+
+        // Otra IP, otro grupo de rutas y la misma IP con usuario autenticado no comparten el bucket agotado
+        assertEquals(200, call(request("GET", "/api/v1/events", "10.0.0.2")).getStatus());
+        assertEquals(200, call(request("POST", "/api/v1/events", "10.0.0.1")).getStatus());
+        assertEquals(200, call(request("POST", "/api/v1/auth/login", "10.0.0.1")).getStatus());
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "ana", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        assertEquals(200, call(request("GET", "/api/v1/events", "10.0.0.1")).getStatus());
+    }
+
+    @Test
+    @DisplayName("Login y registro se limitan por IP aunque haya usuario autenticado")
+    void shouldKeyAuthRoutesByIp() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "ana", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        for (int i = 0; i < BURST; i++) {
+            call(request("POST", "/api/v1/auth/login", "10.0.0.3"));
+        }
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "luis", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+
+        assertEquals(429, call(request("POST", "/api/v1/auth/login", "10.0.0.3")).getStatus());
+    }
+
+    @Test
+    @DisplayName("No debe limitar nada si está desactivado")
+    void shouldPassEverythingWhenDisabled() throws Exception {
+        RateLimitFilter disabled = new RateLimitFilter(false, 1, 1, 1, 1, 1, 1, Duration.ofMinutes(10), 100);
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            disabled.doFilter(request("GET", "/api/v1/events", "10.0.0.1"), response, chain);
+            assertEquals(200, response.getStatus());
+        }
+    }
+
+    private MockHttpServletResponse call(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(ip);
+        return request;
+    }
+}
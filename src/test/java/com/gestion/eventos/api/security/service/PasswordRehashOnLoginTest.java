@@ -0,0 +1,66 @@
+package com.gestion.eventos.api.security.service;
+
+import com.gestion.eventos.api.domain.User;
+import com.gestion.eventos.api.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cambio de coste de BCrypt: un hash guardado con el coste anterior se rehace en el siguiente login
+ * correcto (UserDetailsServiceImpl.updatePassword) y después ya no se vuelve a tocar.
+ */
+@SpringBootTest(properties = "security.password.bcrypt-strength=5")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PasswordRehashOnLoginTest {
+
+    private static final String LOGIN = """
+            {"username": "rehash-user", "password": "secreto"}""";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Debe rehacer el hash con el coste configurado tras un login correcto")
+    void shouldRehashOnLoginAfterCostChange() throws Exception {
+        User user = new User();
+        user.setName("Rehash");
+        user.setUsername("rehash-user");
+        user.setEmail("rehash@users.test");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secreto"));
+        userRepository.save(user);
+
+        mockMvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isOk());
+
+        String rehashed = storedPassword();
+        assertTrue(rehashed.startsWith("$2a$05$"), "Hash no actualizado: " + rehashed);
+        assertTrue(new BCryptPasswordEncoder().matches("secreto", rehashed));
+
+        // Con el coste ya al día no hay un segundo rehash
+        mockMvc.perform(post("/api/v1/auth/login").contentType(MediaType.APPLICATION_JSON).content(LOGIN))
+                .andExpect(status().isOk());
+        assertEquals(rehashed, storedPassword());
+    }
+
+    private String storedPassword() {
+        return jdbcTemplate.queryForObject("SELECT password FROM users WHERE username = 'rehash-user'", String.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.gestion.eventos.api.security.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RevocationBloomFilterTest {
+
+    private static final int ENTRIES = 10_000;
+    private static final int PROBES = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    @DisplayName("Nunca da falsos negativos")
+    void shouldNeverReturnFalseNegatives() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(ENTRIES, FALSE_POSITIVE_RATE);
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < ENTRIES; i++) {
+            String jti = UUID.randomUUID().toString();
+            filter.add(jti);
+            added.add(jti);
+        }
+
+        added.forEach(jti -> assertTrue(filter.mightContain(jti), "Falso negativo para " + jti));
+    }
+
+    @Test
+    @DisplayName("La tasa de falsos positivos se acerca a la configurada")
+    void shouldKeepFalsePositiveRateNearConfiguredValue() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(ENTRIES, FALSE_POSITIVE_RATE);
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        double rate = falsePositives / (double) PROBES;
+        // Margen para la variación aleatoria: con 100k pruebas la desviación típica es ~0.0003
+        assertTrue(rate < FALSE_POSITIVE_RATE * 1.5, "Tasa de falsos positivos " + rate);
+    }
+}
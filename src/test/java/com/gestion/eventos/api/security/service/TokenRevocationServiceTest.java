@@ -0,0 +1,100 @@
+package com.gestion.eventos.api.security.service;
+
+import com.gestion.eventos.api.domain.RevokedToken;
+import com.gestion.eventos.api.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TokenRevocationService(revokedTokenRepository, 1000, 0.01, 3_600_000);
+    }
+
+    @Test
+    @DisplayName("Un token revocado queda revocado y otro cualquiera no")
+    void shouldReportRevokedTokensOnly() {
+        Claims revoked = claims("jti-revocado", Instant.now().plus(1, ChronoUnit.HOURS));
+
+        service.revoke(revoked);
+
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+        assertTrue(service.isRevoked(revoked));
+        assertFalse(service.isRevoked(claims("jti-valido", Instant.now().plus(1, ChronoUnit.HOURS))));
+    }
+
+    @Test
+    @DisplayName("refresh conserva las revocaciones confirmadas mientras se leía la tabla")
+    void shouldMergeRevocationsCommittedDuringRebuild() {
+        Instant future = Instant.now().plus(1, ChronoUnit.HOURS);
+        Claims concurrent = claims("jti-concurrente", future);
+
+        // La revocación confirma entre la lectura de la tabla y el cambio de lista: la lectura no la incluye
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenAnswer(invocation -> {
+            service.revoke(concurrent);
+            return List.of(new RevokedToken("jti-otra-instancia", future, Instant.now()));
+        });
+
+        service.refresh();
+
+        assertTrue(service.isRevoked(concurrent));
+        assertTrue(service.isRevoked(claims("jti-otra-instancia", future)));
+        assertEquals(2, service.size());
+    }
+
+    @Test
+    @DisplayName("refresh purga la tabla y descarta las entradas caducadas")
+    void shouldDropExpiredEntriesOnRefresh() {
+        service.revoke(claims("jti-caducado", Instant.now().minus(1, ChronoUnit.MINUTES)));
+        service.revoke(claims("jti-vigente", Instant.now().plus(1, ChronoUnit.HOURS)));
+        assertEquals(2, service.size());
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(List.of());
+
+        service.refresh();
+
+        verify(revokedTokenRepository).deleteExpired(any(Instant.class));
+        assertEquals(1, service.size());
+        assertFalse(service.isRevoked(claims("jti-caducado", Instant.now().plus(1, ChronoUnit.HOURS))));
+        assertTrue(service.isRevoked(claims("jti-vigente", Instant.now().plus(1, ChronoUnit.HOURS))));
+    }
+
+    @Test
+    @DisplayName("Un token sin jti no se puede revocar")
+    void shouldIgnoreTokensWithoutJti() {
+        Claims withoutJti = Jwts.claims().subject("ana").expiration(new Date(System.currentTimeMillis() + 60_000)).build();
+
+        service.revoke(withoutJti);
+
+        assertFalse(service.isRevoked(withoutJti));
+        assertEquals(0, service.size());
+    }
+
+    private static Claims claims(String jti, Instant expiresAt) {
+        return Jwts.claims().id(jti).subject("ana").expiration(Date.from(expiresAt)).build();
+    }
+}
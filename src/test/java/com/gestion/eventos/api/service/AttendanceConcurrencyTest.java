@@ -0,0 +1,167 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.domain.Category;
+import com.gestion.eventos.api.exception.ResourceConflictException;
+import com.gestion.eventos.api.repository.CategoryRepository;
+import com.gestion.eventos.api.support.EventFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de estrés contra H2: muchas inscripciones simultáneas sobre un mismo evento
+ * (incluidas peticiones repetidas del mismo usuario) nunca superan el aforo.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AttendanceConcurrencyTest {
+
+    private static final int CAPACITY = 50;
+    private static final int USERS = 300;
+    private static final int REQUESTS_PER_USER = 2;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private IAttendanceService attendanceService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private EventFixtures eventFixtures;
+    @Autowired
+    private EventCounterReconciler eventCounterReconciler;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Inscripciones concurrentes sin sobreventa y con contador exacto")
+    void shouldNeverOverbookUnderConcurrentRegistrations() throws Exception {
+        Long eventId = seed("aforo");
+
+        List<Request> requests = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            for (int r = 0; r < REQUESTS_PER_USER; r++) {
+                requests.add(new Request("aforo-" + u));
+            }
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        ConcurrentLinkedQueue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Request request : requests) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        attendanceService.register(eventId, request.username());
+                    } catch (ResourceConflictException e) {
+                        rejected.incrementAndGet();
+                    } catch (Throwable e) {
+                        unexpected.add(e);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(unexpected.isEmpty(), () -> "Errores inesperados: " + unexpected);
+        assertEquals(CAPACITY, attendeeRows(eventId));
+        assertEquals(CAPACITY, attendeeCount(eventId));
+        assertTrue(rejected.get() >= USERS - CAPACITY,
+                "Cada usuario sin plaza debe recibir al menos un rechazo por aforo");
+
+        // Una baja libera exactamente una plaza
+        String attendee = jdbcTemplate.queryForObject("""
+                SELECT u.username FROM users u JOIN user_attended_events a ON a.user_id = u.id
+                WHERE a.event_id = ? LIMIT 1""", String.class, eventId);
+        attendanceService.unregister(eventId, attendee);
+        attendanceService.unregister(eventId, attendee);
+        assertEquals(CAPACITY - 1, attendeeCount(eventId));
+        attendanceService.register(eventId, "aforo-" + USERS);
+        assertEquals(CAPACITY, attendeeCount(eventId));
+        assertThrows(ResourceConflictException.class, () -> attendanceService.register(eventId, attendee));
+        assertEquals(CAPACITY, attendeeRows(eventId));
+    }
+
+    @Test
+    @DisplayName("La conciliación repara un contador desviado")
+    void shouldRepairDriftedCounterOnReconcile() {
+        Long eventId = seed("conciliacion");
+        attendanceService.register(eventId, "conciliacion-0");
+        attendanceService.register(eventId, "conciliacion-1");
+        jdbcTemplate.update("UPDATE events SET attendee_count = 7 WHERE id = ?", eventId);
+        Long categoryId = jdbcTemplate.queryForObject("SELECT category_id FROM events WHERE id = ?", Long.class, eventId);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> categoryRepository.findById(categoryId));
+
+        assertTrue(eventCounterReconciler.reconcile() >= 1);
+        assertEquals(2, attendeeCount(eventId));
+        assertEquals(0, eventCounterReconciler.reconcile());
+        // El recálculo declara la tabla events: el resto de la caché de segundo nivel sigue intacta
+        assertTrue(entityManagerFactory.getCache().contains(Category.class, categoryId));
+    }
+
+    @Test
+    @DisplayName("Inscribirse y darse de baja no vacía otras regiones de la caché de segundo nivel")
+    void shouldKeepUnrelatedCacheRegionsOnAttendanceChanges() {
+        Long eventId = seed("regiones");
+        Long categoryId = jdbcTemplate.queryForObject("SELECT category_id FROM events WHERE id = ?", Long.class, eventId);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> categoryRepository.findById(categoryId));
+        assertTrue(entityManagerFactory.getCache().contains(Category.class, categoryId));
+
+        attendanceService.register(eventId, "regiones-0");
+        attendanceService.unregister(eventId, "regiones-0");
+
+        assertTrue(entityManagerFactory.getCache().contains(Category.class, categoryId),
+                "Las sentencias de asistencia solo deben invalidar las regiones de sus tablas");
+    }
+
+    private record Request(String username) {
+    }
+
+    private long attendeeRows(Long eventId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_attended_events WHERE event_id = ?", Long.class, eventId);
+    }
+
+    private long attendeeCount(Long eventId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT attendee_count FROM events WHERE id = ?", Long.class, eventId);
+    }
+
+    /** Un evento con aforo y USERS + 1 usuarios sin inscribir: "{prefix}-0".."{prefix}-USERS". */
+    private Long seed(String prefix) {
+        eventFixtures.users(prefix, USERS + 1);
+        return eventFixtures.events("Aforo " + prefix, 1).capacity(CAPACITY).seed().get(0);
+    }
+}
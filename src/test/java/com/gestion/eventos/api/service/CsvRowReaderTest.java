@@ -0,0 +1,61 @@
+package com.gestion.eventos.api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CsvRowReaderTest {
+
+    @Test
+    @DisplayName("Debe leer campos entre comillas con comas, comillas escapadas y saltos de línea")
+    void shouldReadQuotedFields() throws IOException {
+        CsvRowReader csv = reader("""
+                name,bio
+                "Pérez, Ana","Dijo ""hola""
+                y se fue"
+                Luis,
+                """);
+
+        assertEquals(List.of("name", "bio"), csv.next());
+        assertEquals(List.of("Pérez, Ana", "Dijo \"hola\"\ny se fue"), csv.next());
+        assertEquals(2, csv.getRecordLine());
+        assertEquals(List.of("Luis", ""), csv.next());
+        // El registro anterior ocupaba dos líneas
+        assertEquals(4, csv.getRecordLine());
+        assertNull(csv.next());
+    }
+
+    @Test
+    @DisplayName("Debe saltar líneas vacías, aceptar CRLF y un último registro sin salto de línea")
+    void shouldSkipBlankLinesAndHandleCrlf() throws IOException {
+        CsvRowReader csv = reader("a,b\r\n\r\n1,2\r\n\n3,4");
+
+        assertEquals(List.of("a", "b"), csv.next());
+        assertEquals(List.of("1", "2"), csv.next());
+        assertEquals(3, csv.getRecordLine());
+        assertEquals(List.of("3", "4"), csv.next());
+        assertEquals(5, csv.getRecordLine());
+        assertNull(csv.next());
+    }
+
+    @Test
+    @DisplayName("Debe devolver los campos tal cual aunque la fila tenga menos columnas que la cabecera")
+    void shouldReturnShortRowsAsIs() throws IOException {
+        CsvRowReader csv = reader("name,date,location\nsolo-nombre\n");
+
+        csv.next();
+        assertEquals(List.of("solo-nombre"), csv.next());
+        assertNull(csv.next());
+    }
+
+    private static CsvRowReader reader(String content) {
+        return new CsvRowReader(new BufferedReader(new StringReader(content)));
+    }
+}
@@ -0,0 +1,115 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventCountServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventCountService eventCountService;
+
+    @BeforeEach
+    void setUp() {
+        eventCountService = new EventCountService(eventRepository, Duration.ofMinutes(5), 2, Runnable::run);
+        ReflectionTestUtils.setField(eventCountService, "defaultMode", "exact");
+        ReflectionTestUtils.setField(eventCountService, "approximateCap", 100);
+        ReflectionTestUtils.setField(eventCountService, "datasourceUrl", "jdbc:h2:mem:eventos");
+    }
+
+    @Test
+    @DisplayName("EXACT (y el modo por defecto) cuenta en cada llamada")
+    void shouldCountEveryTimeInExactMode() {
+        when(eventRepository.count()).thenReturn(12L);
+        when(eventRepository.countByNameContainingIgnoreCase("java")).thenReturn(3L);
+
+        assertEquals(12, eventCountService.count(null, EventCountMode.EXACT));
+        assertEquals(12, eventCountService.count("  ", null));
+        assertEquals(3, eventCountService.count(" Java ", EventCountMode.EXACT));
+
+        verify(eventRepository, times(2)).count();
+    }
+
+    @Test
+    @DisplayName("CACHED reutiliza el conteo por filtro hasta que una escritura lo invalida")
+    void shouldReuseCachedCountUntilInvalidated() {
+        when(eventRepository.countByNameContainingIgnoreCase("java")).thenReturn(3L, 4L);
+
+        assertEquals(3, eventCountService.count("java", EventCountMode.CACHED));
+        assertEquals(3, eventCountService.count("JAVA", EventCountMode.CACHED));
+        verify(eventRepository, times(1)).countByNameContainingIgnoreCase("java");
+
+        // Sin transacción activa la invalidación es inmediata
+        eventCountService.invalidate();
+
+        assertEquals(4, eventCountService.count("java", EventCountMode.CACHED));
+    }
+
+    @Test
+    @DisplayName("CACHED no guarda un conteo que empezó antes de una invalidación")
+    void shouldNotCacheCountThatRacedWithInvalidation() {
+        when(eventRepository.count()).thenAnswer(invocation -> {
+            eventCountService.invalidate();
+            return 5L;
+        }).thenReturn(6L);
+
+        assertEquals(5, eventCountService.count(null, EventCountMode.CACHED));
+        assertEquals(6, eventCountService.count(null, EventCountMode.CACHED));
+    }
+
+    @Test
+    @DisplayName("CACHED no guarda más conteos que el máximo de entradas")
+    void shouldEvictWhenFull() {
+        when(eventRepository.countByNameContainingIgnoreCase(anyString())).thenReturn(1L);
+
+        for (String filter : new String[]{"a", "b", "c"}) {
+            eventCountService.count(filter, EventCountMode.CACHED);
+        }
+        for (String filter : new String[]{"a", "b", "c"}) {
+            eventCountService.count(filter, EventCountMode.CACHED);
+        }
+
+        // Con 2 entradas al menos uno de los tres filtros se ha expulsado y se vuelve a contar
+        verify(eventRepository, atLeast(4)).countByNameContainingIgnoreCase(anyString());
+    }
+
+    @Test
+    @DisplayName("APPROXIMATE usa un COUNT acotado fuera de Postgres")
+    void shouldUseCappedCountOutsidePostgres() {
+        when(eventRepository.countCapped(100)).thenReturn(100L);
+        when(eventRepository.countByNameCapped("%50\\%%", 100)).thenReturn(7L);
+
+        assertEquals(100, eventCountService.count(null, EventCountMode.APPROXIMATE));
+        assertEquals(7, eventCountService.count("50%", EventCountMode.APPROXIMATE));
+        verify(eventRepository, never()).estimateCountFromPlanner();
+    }
+
+    @Test
+    @DisplayName("APPROXIMATE usa la estimación del planificador en Postgres salvo que la tabla no esté analizada")
+    void shouldUsePlannerEstimateOnPostgres() {
+        ReflectionTestUtils.setField(eventCountService, "datasourceUrl", "jdbc:postgresql://localhost/eventos");
+        when(eventRepository.estimateCountFromPlanner()).thenReturn(123_456L, -1L);
+        when(eventRepository.countCapped(100)).thenReturn(100L);
+
+        assertEquals(123_456, eventCountService.count(null, EventCountMode.APPROXIMATE));
+        assertEquals(100, eventCountService.count(null, EventCountMode.APPROXIMATE));
+    }
+}
@@ -0,0 +1,50 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventCursorTest {
+
+    @Test
+    @DisplayName("Debe recuperar el mismo cursor tras codificarlo, también con '|' y acentos en el nombre")
+    void shouldRoundTripNameCursor() {
+        EventCursor cursor = new EventCursor(EventCursor.SORT_BY_NAME, "Jornada | Ñandú", 42L);
+
+        EventCursor decoded = EventCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("Debe recuperar el mismo cursor por fecha")
+    void shouldRoundTripDateCursor() {
+        EventCursor cursor = new EventCursor(EventCursor.SORT_BY_DATE, LocalDate.of(2030, 2, 28), 7L);
+
+        assertEquals(cursor, EventCursor.decode(cursor.encode()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"name|5", "name|abc|Evento", "price|5|10", "date|5|28/02/2030", ""})
+    @DisplayName("Un cursor manipulado debe rechazarse como petición inválida")
+    void shouldRejectTamperedCursor(String raw) {
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadRequestException.class, () -> EventCursor.decode(token));
+    }
+
+    @Test
+    @DisplayName("Un cursor que no es Base64 debe rechazarse como petición inválida")
+    void shouldRejectMalformedCursor() {
+        assertThrows(BadRequestException.class, () -> EventCursor.decode("no es base64!"));
+    }
+}
@@ -0,0 +1,75 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.domain.Event;
+import com.gestion.eventos.api.support.EventFixtures;
+import com.gestion.eventos.api.support.JdbcCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comprueba contra H2 que findAllEventsWithAllDetailsOptimized no genera producto cartesiano:
+ * el número de sentencias no depende de los datos y las filas leídas crecen con la suma
+ * de eventos, oradores y asistentes, no con su producto.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(JdbcCounter.Config.class)
+class EventDetailsLoadingTest {
+
+    private static final int EVENTS_PER_BATCH = 10;
+    private static final int SPEAKERS_PER_EVENT = 5;
+    private static final int ATTENDEES_PER_EVENT = 20;
+
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventFixtures eventFixtures;
+
+    private record Load(long statements, long rows, int events) {
+    }
+
+    @Test
+    @DisplayName("Carga de todos los detalles con sentencias constantes y filas lineales")
+    void shouldLoadAllDetailsWithConstantStatementsAndLinearRows() {
+        seedBatch(0);
+        Load first = load();
+        seedBatch(1);
+        Load second = load();
+        seedBatch(2);
+        Load third = load();
+
+        // Una consulta para eventos + categoría, otra para oradores y otra para asistentes con sus roles
+        assertEquals(3, second.statements());
+        assertEquals(second.statements(), third.statements());
+        assertEquals(first.statements(), second.statements());
+
+        // Cada lote añade sus eventos una vez en cada consulta más una fila por orador y por asistente (un rol)
+        long expectedRowsPerBatch = EVENTS_PER_BATCH
+                + (long) EVENTS_PER_BATCH * SPEAKERS_PER_EVENT
+                + (long) EVENTS_PER_BATCH * ATTENDEES_PER_EVENT;
+        assertEquals(expectedRowsPerBatch, second.rows() - first.rows());
+        assertEquals(expectedRowsPerBatch, third.rows() - second.rows());
+        assertEquals(EVENTS_PER_BATCH, third.events() - second.events());
+    }
+
+    private void seedBatch(int batch) {
+        eventFixtures.events("Detalles " + batch, EVENTS_PER_BATCH)
+                .speakersPerEvent(SPEAKERS_PER_EVENT)
+                .attendeesPerEvent(ATTENDEES_PER_EVENT)
+                .seed();
+    }
+
+    private Load load() {
+        JdbcCounter.reset();
+        List<Event> events = eventService.findAllEventsWithAllDetailsOptimized();
+        return new Load(JdbcCounter.statements(), JdbcCounter.rows(), events.size());
+    }
+}
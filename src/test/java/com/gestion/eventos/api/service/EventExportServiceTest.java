@@ -0,0 +1,78 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.dto.EventExportDto;
+import com.gestion.eventos.api.repository.EventRepository;
+import com.gestion.eventos.api.support.EventFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exportación NDJSON contra H2: una línea JSON por evento aunque la consulta devuelva una fila por orador.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventExportServiceTest {
+
+    @Autowired
+    private IEventExportService eventExportService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private JsonMapper jsonMapper;
+    @Autowired
+    private EventFixtures eventFixtures;
+
+    @Test
+    @DisplayName("Debe escribir un evento por línea, con sus oradores agrupados, y devolver cuántos ha escrito")
+    void shouldWriteOneLinePerEvent() throws Exception {
+        LocalDate date = LocalDate.of(2030, 3, 1);
+        Long withSpeakersId = eventFixtures.events("Exportprueba", 1)
+                .firstDate(date).speakersPerEvent(3).seed().get(0);
+        // Sin oradores: sale con la lista vacía
+        Long withoutSpeakersId = eventFixtures.events("Exportprueba sin oradores", 1)
+                .firstDate(date).seed().get(0);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = eventExportService.exportAsNdjson(output);
+
+        String ndjson = output.toString(StandardCharsets.UTF_8);
+        assertTrue(ndjson.endsWith("\n"));
+        List<String> lines = ndjson.lines().toList();
+        assertEquals(exported, lines.size());
+        assertEquals(eventRepository.count(), exported);
+
+        List<EventExportDto> events = new ArrayList<>();
+        for (String line : lines) {
+            events.add(jsonMapper.readValue(line, EventExportDto.class));
+        }
+        List<Long> ids = events.stream().map(EventExportDto::getId).toList();
+        assertEquals(ids.stream().sorted().toList(), ids, "Las líneas deben ir ordenadas por id");
+        assertEquals(ids.size(), new HashSet<>(ids).size(), "Un evento aparece en más de una línea");
+
+        Map<Long, EventExportDto> byId = events.stream()
+                .collect(Collectors.toMap(EventExportDto::getId, Function.identity()));
+        EventExportDto withSpeakers = byId.get(withSpeakersId);
+        assertEquals("Exportprueba 0", withSpeakers.getName());
+        assertEquals(date, withSpeakers.getDate());
+        assertEquals("Exportprueba", withSpeakers.getCategoryName());
+        assertEquals(3, withSpeakers.getSpeakerIds().size());
+        assertEquals(List.of(), byId.get(withoutSpeakersId).getSpeakerIds());
+    }
+}
@@ -0,0 +1,67 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.dto.EventResponseDTO;
+import com.gestion.eventos.api.repository.EventRepository;
+import com.gestion.eventos.api.support.EventFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Recorre por OFFSET un listado ordenado por un campo con muchos empates (attendeeCount)
+ * y comprueba que cada evento aparece exactamente una vez.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventPaginationTest {
+
+    private static final int EVENTS = 23;
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private IEventService eventService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EventFixtures eventFixtures;
+
+    @Test
+    @DisplayName("Paginar por popularidad no repite ni salta eventos")
+    void shouldPageThroughPopularitySortWithoutDuplicates() {
+        List<Long> seeded = eventFixtures.events("Paginación", EVENTS).seed();
+        // Unos pocos con asistentes y el resto empatados a 0
+        jdbcTemplate.update("UPDATE events SET attendee_count = 5 WHERE id = ?", seeded.get(3));
+        jdbcTemplate.update("UPDATE events SET attendee_count = 2 WHERE id = ?", seeded.get(10));
+
+        Sort popularity = Sort.by(Sort.Direction.DESC, "attendeeCount");
+        List<Long> seen = new ArrayList<>();
+        Page<EventResponseDTO> page;
+        int pageNumber = 0;
+        do {
+            page = eventService.findAll(null, PageRequest.of(pageNumber++, PAGE_SIZE, popularity),
+                    EventCountMode.EXACT, null);
+            page.getContent().forEach(dto -> seen.add(dto.getId()));
+        } while (page.hasNext());
+
+        Set<Long> unique = new HashSet<>(seen);
+        assertEquals(seen.size(), unique.size(), "Eventos repetidos entre páginas: " + seen);
+        assertEquals(eventRepository.count(), seen.size());
+        assertTrue(unique.containsAll(seeded));
+    }
+}
@@ -0,0 +1,88 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.dto.EventResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventResponseCacheTest {
+
+    private final EventResponseCache cache = new EventResponseCache(1_000_000, Duration.ofMinutes(10));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("Debe servir desde la caché la segunda lectura del mismo evento")
+    void shouldCacheLoadedResponse() {
+        cache.get(1L, id -> load(id, "Categoría"));
+        EventResponseDTO second = cache.get(1L, id -> load(id, "Otra"));
+
+        assertEquals("Categoría", second.getCategoryName());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Una carga en curso cuando cambia una categoría no queda guardada con los datos anteriores")
+    void shouldDiscardLoadThatRacedWithCategoryChange() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch categoryChanged = new CountDownLatch(1);
+
+        // La carga lee la categoría antigua y termina después de la invalidación
+        CompletableFuture<EventResponseDTO> inFlight = CompletableFuture.supplyAsync(() -> cache.get(1L, id -> {
+            EventResponseDTO stale = load(id, "Nombre antiguo");
+            loading.countDown();
+            await(categoryChanged);
+            return stale;
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        // Sin transacción activa la invalidación se aplica en el acto
+        cache.evictByCategory(10L);
+        categoryChanged.countDown();
+        assertEquals("Nombre antiguo", inFlight.get(5, TimeUnit.SECONDS).getCategoryName());
+
+        EventResponseDTO fresh = cache.get(1L, id -> load(id, "Nombre nuevo"));
+
+        assertEquals("Nombre nuevo", fresh.getCategoryName());
+        assertEquals("Nombre nuevo", cache.get(1L, id -> load(id, "Otro")).getCategoryName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Un cambio de orador invalida los eventos ya cacheados")
+    void shouldEvictCachedEventsOnSpeakerChange() {
+        cache.get(1L, id -> load(id, "Categoría"));
+        cache.get(2L, id -> load(id, "Categoría"));
+
+        cache.evictBySpeaker(20L);
+
+        assertEquals(0, cache.estimatedSize());
+        cache.get(1L, id -> load(id, "Categoría"));
+        assertEquals(3, loads.get());
+    }
+
+    private EventResponseDTO load(Long id, String categoryName) {
+        loads.incrementAndGet();
+        EventResponseDTO dto = new EventResponseDTO();
+        dto.setId(id);
+        dto.setName("Evento " + id);
+        dto.setCategoryId(10L);
+        dto.setCategoryName(categoryName);
+        return dto;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -15,14 +15,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -39,6 +44,12 @@ public class EventServiceTest {
     private CategoryService categoryService;
     @Mock
     private SpeakerService speakerService;
+    @Mock
+    private EventCountService eventCountService;
+    @Mock
+    private ResourceTagService resourceTagService;
+    @Spy
+    private EventResponseCache eventResponseCache = new EventResponseCache(1_000_000, Duration.ofMinutes(1));
 
     @InjectMocks
     private EventService eventService;
@@ -49,6 +60,8 @@ public class EventServiceTest {
     private Category category;
     private Speaker speaker1, speaker2;
     private Pageable pageable;
+    // El servicio añade el id como desempate del orden antes de consultar
+    private Pageable pageableById;
 
     @BeforeEach
     void setUp(){
@@ -82,6 +95,7 @@ public class EventServiceTest {
         eventResponseDTO.setCategoryName("Conferencia");
 
         pageable = PageRequest.of(0, 10);
+        pageableById = PageRequest.of(0, 10, Sort.by("id"));
     }
 
     @Test
@@ -99,6 +113,23 @@ public class EventServiceTest {
 
     }
 
+    @Test
+    @DisplayName("Debe cachear el DTO del evento y no volver a consultar el repositorio")
+    void shouldCacheEventResponseById() {
+
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(eventMapper.toResponseDto(event)).thenReturn(eventResponseDTO);
+
+        EventResponseDTO first = eventService.findResponseById(1L, null);
+        EventResponseDTO second = eventService.findResponseById(1L, null);
+
+        assertSame(eventResponseDTO, first);
+        assertSame(first, second);
+
+        verify(eventRepository, times(1)).findById(1L);
+        verify(eventMapper, times(1)).toResponseDto(event);
+    }
+
     @Test
     @DisplayName("Debe lanzar un ResourceNotFoundException cuando el ID no existe")
     void shouldThrowResourceNotFoundExceptionWhenIdDoesNotExist(){
@@ -129,8 +160,7 @@ public class EventServiceTest {
         when(eventMapper.toEntity(any(EventRequestDTO.class))).thenReturn(eventWithoutId);
 
         when(categoryService.findById(eventRequestDTO.getCategoryId())).thenReturn(category);
-        when(speakerService.findById(10L)).thenReturn(speaker1);
-        when(speakerService.findById(11L)).thenReturn(speaker2);
+        when(speakerService.findAllByIds(Set.of(10L, 11L))).thenReturn(new HashSet<>(Set.of(speaker1, speaker2)));
 
         when(eventRepository.save(any(Event.class))).thenAnswer(
                 invocation -> {
@@ -152,8 +182,7 @@ public class EventServiceTest {
 
         verify(eventMapper, times(1)).toEntity(eventRequestDTO);
         verify(categoryService, times(1)).findById(eventRequestDTO.getCategoryId());
-        verify(speakerService, times(1)).findById(10L);
-        verify(speakerService, times(1)).findById(11L);
+        verify(speakerService, times(1)).findAllByIds(Set.of(10L, 11L));
         verify(eventRepository, times(1)).save(any(Event.class));
     }
 
@@ -225,23 +254,27 @@ public class EventServiceTest {
     @DisplayName("Debe retornar una pagina de eventos sin filtros de nombre")
     void shouldReturnPageOfEventsWithoutNameFilter() {
 
-        List<Event> events = Collections.singletonList(event);
-        Page<Event> eventPage = new PageImpl<>(events, pageable, 1);
+        Slice<Long> idsSlice = new SliceImpl<>(List.of(1L), pageable, false);
 
-        when(eventRepository.findAll(pageable)).thenReturn(eventPage);
+        when(eventRepository.findAllIds(pageableById)).thenReturn(idsSlice);
+        when(eventRepository.findAllWithCategoryAndSpeakersByIdIn(List.of(1L))).thenReturn(List.of(event));
 
         when(eventMapper.toResponseDto(any(Event.class))).thenReturn(eventResponseDTO);
 
-        Page<EventResponseDTO> result = eventService.findAll(null, pageable);
+        Page<EventResponseDTO> result = eventService.findAll(null, pageable, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(1, result.getContent().size());
         assertEquals(eventResponseDTO, result.getContent().getFirst());
 
-        verify(eventRepository, times(1)).findAll(pageable);
-        verify(eventRepository, never()).findByNameContainingIgnoreCase(anyString(), any(Pageable.class));
+        verify(eventRepository, times(1)).findAllIds(pageableById);
+        verify(eventRepository, never()).findIdsByNamePattern(anyString(), any(Pageable.class));
+        // Categoría y oradores de toda la página en una sola consulta
+        verify(eventRepository, times(1)).findAllWithCategoryAndSpeakersByIdIn(List.of(1L));
         verify(eventMapper, times(1)).toResponseDto(event);
+        // Primera página incompleta: el total se deduce sin ejecutar el COUNT
+        verify(eventCountService, never()).count(any(), any());
 
     }
 
@@ -251,25 +284,44 @@ public class EventServiceTest {
 
         String filterName = "Spring";
 
-        List<Event> events = Collections.singletonList(event);
-        Page<Event> eventPage = new PageImpl<>(events, pageable, 1);
+        Slice<Long> idsSlice = new SliceImpl<>(List.of(1L), pageable, false);
 
-        when(eventRepository.findByNameContainingIgnoreCase(filterName, pageable)).thenReturn(eventPage);
+        when(eventRepository.findIdsByNamePattern("%spring%", pageableById)).thenReturn(idsSlice);
+        when(eventRepository.findAllWithCategoryAndSpeakersByIdIn(List.of(1L))).thenReturn(List.of(event));
 
         when(eventMapper.toResponseDto(any(Event.class))).thenReturn(eventResponseDTO);
 
-        Page<EventResponseDTO> result = eventService.findAll(filterName, pageable);
+        Page<EventResponseDTO> result = eventService.findAll(filterName, pageable, null, null);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(1, result.getContent().size());
         assertEquals(eventResponseDTO, result.getContent().getFirst());
 
-        verify(eventRepository, times(1)).findByNameContainingIgnoreCase(filterName, pageable);
-        verify(eventRepository, never()).findAll(any(Pageable.class));
+        verify(eventRepository, times(1)).findIdsByNamePattern("%spring%", pageableById);
+        verify(eventRepository, never()).findAllIds(any(Pageable.class));
         verify(eventMapper, times(1)).toResponseDto(event);
 
     }
 
+    @Test
+    @DisplayName("Debe actualizar los oradores consultando solo los nuevos y sin tocar Speaker.events")
+    void shouldUpdateSpeakersResolvingOnlyAddedIds() {
+
+        Speaker speaker3 = new Speaker(12L, "Ada Lovelace", "ada@example.com", "Bio de Ada", null);
+        eventRequestDTO.setSpeakersIds(new HashSet<>(Set.of(11L, 12L)));
+
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(speakerService.findAllByIds(Set.of(12L))).thenReturn(new HashSet<>(Set.of(speaker3)));
+        when(eventRepository.save(event)).thenReturn(event);
+
+        Event updatedEvent = eventService.update(1L, eventRequestDTO);
+
+        assertEquals(Set.of(11L, 12L), updatedEvent.getSpeakers().stream().map(Speaker::getId).collect(Collectors.toSet()));
+
+        verify(speakerService, times(1)).findAllByIds(Set.of(12L));
+        verify(speakerService, never()).findById(anyLong());
+        verify(categoryService, never()).findById(anyLong());
+    }
 
-}
\ No newline at end of file
+}
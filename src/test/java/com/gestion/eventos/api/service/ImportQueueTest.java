@@ -0,0 +1,93 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.exception.GlobalExceptionHandler;
+import com.gestion.eventos.api.exception.ServiceUnavailableException;
+import com.gestion.eventos.api.repository.CategoryRepository;
+import com.gestion.eventos.api.repository.EventRepository;
+import com.gestion.eventos.api.repository.SpeakerRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * Cola acotada de importaciones: con un hilo ocupado y la cola llena, la siguiente petición se
+ * rechaza con 503 y Retry-After en lugar de acumular ficheros en disco.
+ */
+@ExtendWith(MockitoExtension.class)
+class ImportQueueTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private SpeakerRepository speakerRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private EventCountService eventCountService;
+    @Mock
+    private ResourceTagService resourceTagService;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        // El primer bloque se queda esperando a la transacción y mantiene ocupado el único hilo
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            release.await();
+            return new SimpleTransactionStatus();
+        });
+        importService = new ImportService(categoryRepository, speakerRepository, eventRepository, entityManager,
+                transactionManager, eventCountService, resourceTagService, 10, 1, 1, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        importService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 503 y Retry-After cuando la cola de importaciones está llena")
+    void shouldRejectWhenQueueIsFull() {
+        importService.startImport(ImportType.SPEAKERS, csv());
+        importService.startImport(ImportType.SPEAKERS, csv());
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> importService.startImport(ImportType.SPEAKERS, csv()));
+        assertEquals(30, ex.getRetryAfterSeconds());
+
+        ResponseEntity<Object> response = new GlobalExceptionHandler().handlerServiceUnavailableException(ex);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("30", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    private MockMultipartFile csv() {
+        return new MockMultipartFile("file", "speakers.csv", "text/csv",
+                "name,email\nAna,ana@import.test\n".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,129 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.domain.Category;
+import com.gestion.eventos.api.dto.ImportJobStatusDto;
+import com.gestion.eventos.api.repository.CategoryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Importaciones reales contra H2 con bloques de 2 filas: validación por fila, oradores por email
+ * y commit independiente de cada bloque.
+ */
+@SpringBootTest(properties = "imports.chunk-size=2")
+@ActiveProfiles("test")
+class ImportServiceTest {
+
+    @Autowired
+    private IImportService importService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Debe importar eventos válidos y rechazar fila a fila los inválidos")
+    void shouldImportValidEventsAndRejectInvalidRows() throws Exception {
+        Category category = new Category();
+        category.setName("Importación");
+        categoryRepository.save(category);
+
+        ImportJobStatusDto speakers = importAndWait(ImportType.SPEAKERS, """
+                name,email,bio
+                "Ruiz, Ana",ana@import.test,"Habla de ""JPA""
+                en dos líneas"
+                Luis,luis@import.test,
+                Repetido,ana@import.test,
+                """);
+        assertEquals("COMPLETED", speakers.getStatus());
+        assertEquals(2, speakers.getRowsImported());
+        assertEquals(1, speakers.getRowsRejected());
+        assertEquals("Habla de \"JPA\"\nen dos líneas", jdbcTemplate.queryForObject(
+                "SELECT bio FROM speakers WHERE email = 'ana@import.test'", String.class));
+
+        ImportJobStatusDto events = importAndWait(ImportType.EVENTS, """
+                name,date,location,category,speakerEmails
+                Evento importado,2030-05-01,Sala 1,Importación,ana@import.test; luis@import.test
+                Fecha mala,01/05/2030,Sala 2,Importación,
+                Sin categoría,2030-05-02,Sala 3,No existe,
+                Orador desconocido,2030-05-03,Sala 4,Importación,nadie@import.test
+                ,2030-05-04,Sala 5,Importación,
+                """);
+
+        assertEquals("COMPLETED", events.getStatus());
+        assertEquals(5, events.getRowsProcessed());
+        assertEquals(1, events.getRowsImported());
+        assertEquals(4, events.getRowsRejected());
+        assertTrue(events.getErrors().stream().anyMatch(error -> error.startsWith("Línea 3:") && error.contains("Fecha inválida")));
+        assertTrue(events.getErrors().stream().anyMatch(error -> error.startsWith("Línea 4:") && error.contains("Categoría no encontrada")));
+        assertTrue(events.getErrors().stream().anyMatch(error -> error.startsWith("Línea 5:") && error.contains("nadie@import.test")));
+        assertTrue(events.getErrors().stream().anyMatch(error -> error.startsWith("Línea 6:") && error.contains("obligatorios")));
+
+        assertEquals(2, jdbcTemplate.queryForObject("""
+                SELECT speaker_count FROM events WHERE name = 'Evento importado'""", Integer.class));
+        assertEquals(2, jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM event_speakers es JOIN events e ON e.id = es.event_id
+                WHERE e.name = 'Evento importado'""", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Un bloque que falla al escribir se revierte entero y el resto queda confirmado")
+    void shouldCommitEachChunkIndependently() throws Exception {
+        String tooLong = "x".repeat(300);
+
+        // Bloques de 2: [bloque-1, bloque-2], [nombre demasiado largo, bloque-4], [bloque-5]
+        ImportJobStatusDto status = importAndWait(ImportType.SPEAKERS, """
+                name,email
+                Bloque 1,bloque-1@import.test
+                Bloque 2,bloque-2@import.test
+                %s,bloque-3@import.test
+                Bloque 4,bloque-4@import.test
+                Bloque 5,bloque-5@import.test
+                """.formatted(tooLong));
+
+        assertEquals("COMPLETED", status.getStatus());
+        assertEquals(3, status.getRowsImported());
+        assertEquals(2, status.getRowsRejected());
+        assertTrue(status.getErrors().stream().anyMatch(error -> error.startsWith("Líneas 4-5 revertidas")));
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM speakers WHERE email LIKE 'bloque-%@import.test'", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM speakers WHERE email = 'bloque-4@import.test'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Una cabecera sin las columnas obligatorias hace fallar la importación")
+    void shouldFailWhenHeaderMissesRequiredColumns() throws Exception {
+        ImportJobStatusDto status = importAndWait(ImportType.EVENTS, "name,date\nEvento,2030-01-01\n");
+
+        assertEquals("FAILED", status.getStatus());
+        assertTrue(status.getErrors().getFirst().contains("location"));
+    }
+
+    private ImportJobStatusDto importAndWait(ImportType type, String csv) throws InterruptedException {
+        MockMultipartFile file = new MockMultipartFile("file", "import.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+        String jobId = importService.startImport(type, file).getJobId();
+
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(30));
+        ImportJobStatusDto status = importService.getStatus(jobId);
+        while (!"COMPLETED".equals(status.getStatus()) && !"FAILED".equals(status.getStatus())) {
+            assertTrue(Instant.now().isBefore(deadline), "La importación no terminó a tiempo");
+            Thread.sleep(20);
+            status = importService.getStatus(jobId);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,59 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.dto.EventResponseDTO;
+import com.gestion.eventos.api.support.EventFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Los comodines de LIKE que escribe el usuario ('%', '_' y '\') se buscan de forma literal en las
+ * consultas con {@code ESCAPE '\'}: listado paginado y conteo aproximado.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LikePatternsTest {
+
+    @Autowired
+    private IEventService eventService;
+    @Autowired
+    private EventCountService eventCountService;
+    @Autowired
+    private EventFixtures eventFixtures;
+
+    @Test
+    @DisplayName("Debe escapar los comodines y pasar a minúsculas")
+    void shouldEscapeWildcards() {
+        assertEquals("%a\\_b\\%c\\\\d%", LikePatterns.containsIgnoreCase("  A_b%C\\d "));
+    }
+
+    @Test
+    @DisplayName("Los comodines del filtro por nombre se buscan de forma literal")
+    void shouldMatchWildcardsLiterally() {
+        List<String> seeded = List.of("Likeprueba 100% real", "Likeprueba 1000 real", "Likeprueba a_b",
+                "Likeprueba axb", "Likeprueba c\\d", "Likeprueba cd");
+        eventFixtures.events("Likeprueba", seeded.size()).names(seeded::get).seed();
+
+        assertEquals(List.of("Likeprueba 100% real"), names("likeprueba 100%"));
+        assertEquals(List.of("Likeprueba a_b"), names("A_B"));
+        assertEquals(List.of("Likeprueba c\\d"), names("c\\d"));
+
+        assertEquals(1, eventCountService.count("100%", EventCountMode.APPROXIMATE));
+        assertEquals(1, eventCountService.count("a_b", EventCountMode.APPROXIMATE));
+        assertEquals(6, eventCountService.count("likeprueba", EventCountMode.APPROXIMATE));
+    }
+
+    private List<String> names(String filter) {
+        return eventService.findAll(filter, PageRequest.of(0, 20), EventCountMode.EXACT, null)
+                .getContent().stream()
+                .map(EventResponseDTO::getName)
+                .toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.gestion.eventos.api.service;
+
+import com.gestion.eventos.api.repository.CategoryRepository;
+import com.gestion.eventos.api.repository.EventRepository;
+import com.gestion.eventos.api.repository.ResourceGenerationRepository;
+import com.gestion.eventos.api.repository.SpeakerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Los ETags de listado salen de la base de datos: otra instancia de la aplicación (aquí, un segundo
+ * ResourceTagService sobre la misma base) ve las escrituras hechas en esta.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ResourceTagServiceTest {
+
+    @Autowired
+    private ResourceTagService resourceTagService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private SpeakerRepository speakerRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ResourceGenerationRepository generationRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Una escritura cambia el ETag de listado que calcula otra instancia")
+    void shouldShareListTagsAcrossInstances() {
+        ResourceTagService otherInstance = new ResourceTagService(eventRepository, speakerRepository,
+                categoryRepository, generationRepository);
+        String events = otherInstance.eventListTag();
+        String categories = otherInstance.categoryListTag();
+        assertEquals(resourceTagService.eventListTag(), events);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> resourceTagService.categoriesChanged());
+
+        assertNotEquals(events, otherInstance.eventListTag());
+        assertNotEquals(categories, otherInstance.categoryListTag());
+        assertEquals(resourceTagService.eventListTag(), otherInstance.eventListTag());
+    }
+
+    @Test
+    @DisplayName("Una transacción revertida no cambia el ETag de listado")
+    void shouldKeepTagOnRollback() {
+        String speakers = resourceTagService.speakerListTag();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            resourceTagService.speakersChanged();
+            status.setRollbackOnly();
+        });
+
+        assertEquals(speakers, resourceTagService.speakerListTag());
+    }
+
+    @Test
+    @DisplayName("Las inscripciones cambian el ETag de listado al vaciar los cambios pendientes")
+    void shouldCoalesceAttendanceChanges() {
+        resourceTagService.flushAttendanceChanges();
+        String events = resourceTagService.eventListTag();
+
+        resourceTagService.attendanceChanged();
+        resourceTagService.attendanceChanged();
+        assertEquals(events, resourceTagService.eventListTag());
+
+        resourceTagService.flushAttendanceChanges();
+        String flushed = resourceTagService.eventListTag();
+        assertNotEquals(events, flushed);
+
+        resourceTagService.flushAttendanceChanges();
+        assertEquals(flushed, resourceTagService.eventListTag());
+    }
+}
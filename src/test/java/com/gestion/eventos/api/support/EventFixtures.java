@@ -0,0 +1,180 @@
+package com.gestion.eventos.api.support;
+
+import com.gestion.eventos.api.domain.Category;
+import com.gestion.eventos.api.domain.Event;
+import com.gestion.eventos.api.domain.Role;
+import com.gestion.eventos.api.domain.Speaker;
+import com.gestion.eventos.api.domain.User;
+import com.gestion.eventos.api.repository.CategoryRepository;
+import com.gestion.eventos.api.repository.EventRepository;
+import com.gestion.eventos.api.repository.RoleRepository;
+import com.gestion.eventos.api.repository.SpeakerRepository;
+import com.gestion.eventos.api.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Siembra datos de prueba en la base compartida por los tests, cada llamada en su propia transacción.
+ * <p>
+ * {@code eventFixtures.events("Prefijo", 3).speakersPerEvent(2).seed()} crea la categoría "Prefijo" y los
+ * eventos "Prefijo 0".."Prefijo 2", del 1 de enero de 2030 en adelante (un día más cada uno) y en
+ * "Sala 0".."Sala 2", cada uno con sus propios oradores y asistentes. Los emails y nombres de usuario salen
+ * del prefijo, así que cada test debe usar uno distinto.
+ * <p>
+ * Es un bean que encuentra el escaneo de componentes de la aplicación: se inyecta con {@code @Autowired}
+ * sin cambiar la configuración del contexto que comparten los tests.
+ */
+@Component
+public class EventFixtures {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+
+    private final TransactionTemplate transactionTemplate;
+    private final CategoryRepository categoryRepository;
+    private final EventRepository eventRepository;
+    private final SpeakerRepository speakerRepository;
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+
+    public EventFixtures(PlatformTransactionManager transactionManager,
+                         CategoryRepository categoryRepository,
+                         EventRepository eventRepository,
+                         SpeakerRepository speakerRepository,
+                         UserRepository userRepository,
+                         RoleRepository roleRepository) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.categoryRepository = categoryRepository;
+        this.eventRepository = eventRepository;
+        this.speakerRepository = speakerRepository;
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+    }
+
+    public Batch events(String prefix, int count) {
+        return new Batch(prefix, count);
+    }
+
+    /** Crea usuarios sin inscribir llamados "{prefijo}-0".."{prefijo}-(count - 1)". */
+    public void users(String prefix, int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Role role = userRole();
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                users.add(user(slug(prefix) + "-" + i, role));
+            }
+            userRepository.saveAll(users);
+        });
+    }
+
+    private Role userRole() {
+        return roleRepository.findByName("ROLE_USER").orElseGet(() -> {
+            Role role = new Role();
+            role.setName("ROLE_USER");
+            return roleRepository.save(role);
+        });
+    }
+
+    private static User user(String username, Role role) {
+        User user = new User();
+        user.setName("Asistente " + username);
+        user.setUsername(username);
+        user.setEmail(username + "@users.test");
+        user.setPassword("{noop}test");
+        user.setRoles(new HashSet<>(Set.of(role)));
+        return user;
+    }
+
+    private static String slug(String prefix) {
+        return prefix.toLowerCase(Locale.ROOT).replace(' ', '-');
+    }
+
+    public final class Batch {
+
+        private final String prefix;
+        private final int count;
+        private IntFunction<String> names;
+        private LocalDate firstDate = FIRST_DATE;
+        private int speakersPerEvent;
+        private int attendeesPerEvent;
+        private Integer capacity;
+
+        private Batch(String prefix, int count) {
+            this.prefix = prefix;
+            this.count = count;
+            this.names = i -> prefix + " " + i;
+        }
+
+        public Batch names(IntFunction<String> names) {
+            this.names = names;
+            return this;
+        }
+
+        public Batch firstDate(LocalDate firstDate) {
+            this.firstDate = firstDate;
+            return this;
+        }
+
+        public Batch speakersPerEvent(int speakersPerEvent) {
+            this.speakersPerEvent = speakersPerEvent;
+            return this;
+        }
+
+        public Batch attendeesPerEvent(int attendeesPerEvent) {
+            this.attendeesPerEvent = attendeesPerEvent;
+            return this;
+        }
+
+        public Batch capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        /** Guarda la categoría y los eventos y devuelve sus ids en orden de creación. */
+        public List<Long> seed() {
+            return transactionTemplate.execute(status -> {
+                Category category = categoryRepository.save(new Category(null, prefix, "Datos de prueba"));
+                Role role = attendeesPerEvent > 0 ? userRole() : null;
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    String key = slug(prefix) + "-" + i;
+
+                    Event event = new Event();
+                    event.setName(names.apply(i));
+                    event.setDate(firstDate.plusDays(i));
+                    event.setLocation("Sala " + i);
+                    event.setCategory(category);
+                    if (capacity != null) {
+                        event.setCapacity(capacity);
+                    }
+
+                    List<Speaker> speakers = new ArrayList<>();
+                    for (int s = 0; s < speakersPerEvent; s++) {
+                        speakers.add(new Speaker(null, "Orador " + key + "-" + s,
+                                key + "-" + s + "@speakers.test", null, new HashSet<>()));
+                    }
+                    speakerRepository.saveAll(speakers);
+                    speakers.forEach(event::addSpeaker);
+                    ids.add(eventRepository.save(event).getId());
+
+                    List<User> attendees = new ArrayList<>();
+                    for (int a = 0; a < attendeesPerEvent; a++) {
+                        User attendee = user(key + "-" + a, role);
+                        attendee.addAtendedEvent(event);
+                        attendees.add(attendee);
+                    }
+                    userRepository.saveAll(attendees);
+                }
+                return ids;
+            });
+        }
+    }
+}
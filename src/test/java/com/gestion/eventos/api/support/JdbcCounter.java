@@ -0,0 +1,105 @@
+package com.gestion.eventos.api.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cuenta sentencias SQL ejecutadas y filas leídas envolviendo el DataSource en proxies JDBC.
+ * Se activa en un test con {@code @Import(JdbcCounter.Config.class)}.
+ * Los contadores son globales: pensados para tests de un solo hilo.
+ */
+public final class JdbcCounter {
+
+    private static final AtomicLong statements = new AtomicLong();
+    private static final AtomicLong rows = new AtomicLong();
+
+    private JdbcCounter() {
+    }
+
+    public static void reset() {
+        statements.set(0);
+        rows.set(0);
+    }
+
+    public static long statements() {
+        return statements.get();
+    }
+
+    public static long rows() {
+        return rows.get();
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+
+            String name = method.getName();
+            if (target instanceof Statement && name.startsWith("execute")) {
+                statements.incrementAndGet();
+            }
+            if (target instanceof ResultSet && name.equals("next") && Boolean.TRUE.equals(result)) {
+                rows.incrementAndGet();
+            }
+            return decorate(method.getReturnType(), result);
+        };
+        return (T) Proxy.newProxyInstance(JdbcCounter.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object decorate(Class<?> returnType, Object result) {
+        if (result == null) {
+            return null;
+        }
+        if (returnType == Connection.class) {
+            return proxy(Connection.class, (Connection) result);
+        }
+        if (returnType == CallableStatement.class) {
+            return proxy(CallableStatement.class, (CallableStatement) result);
+        }
+        if (returnType == PreparedStatement.class) {
+            return proxy(PreparedStatement.class, (PreparedStatement) result);
+        }
+        if (returnType == Statement.class) {
+            return proxy(Statement.class, (Statement) result);
+        }
+        if (returnType == ResultSet.class) {
+            return proxy(ResultSet.class, (ResultSet) result);
+        }
+        return result;
+    }
+
+    @TestConfiguration
+    public static class Config {
+
+        @Bean
+        static BeanPostProcessor jdbcCounterPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}